@@ -0,0 +1,92 @@
+package me.shinsunyoung.springbootdeveloper.benchmark;
+
+import me.shinsunyoung.springbootdeveloper.SpringBootDeveloperApplication;
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import me.shinsunyoung.springbootdeveloper.dto.ArticlePage;
+import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시드 데이터가 들어간 H2 위에서 BlogService 조회 경로의 비용 측정
+ * 게시글 캐시를 켠 경우와 끈 경우를 함께 측정함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BlogServiceBenchmark {
+
+    @Param({"1000"})
+    private int articles; // 시드할 게시글 수
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled; // 게시글 스냅샷 캐시 사용 여부
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringBootDeveloperApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "blog.cache.article.enabled=" + cacheEnabled)
+                .run();
+        blogService = context.getBean(BlogService.class);
+
+        ids = new ArrayList<>(articles);
+        List<AddArticleRequest> batch = new ArrayList<>();
+        for (int i = 0; i < articles; i++) {
+            Article article = Fixtures.article(i);
+            batch.add(new AddArticleRequest(article.getTitle(), article.getContent()));
+            if (batch.size() == 500 || i == articles - 1) {
+                ids.addAll(blogService.saveAll(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ArticleSnapshot findById() {
+        return blogService.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public ArticlePage findFirstPage() {
+        return blogService.findPage(null, BlogService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Article> findAll() {
+        return blogService.findAll();
+    }
+}
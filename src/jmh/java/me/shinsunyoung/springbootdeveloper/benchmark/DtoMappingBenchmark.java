@@ -0,0 +1,68 @@
+package me.shinsunyoung.springbootdeveloper.benchmark;
+
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleViewResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티/스냅샷/프로젝션을 응답 DTO로 변환하는 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Article article;
+    private ArticleSnapshot snapshot;
+    private ArticleSummary summary;
+
+    @Setup
+    public void setUp() {
+        article = Fixtures.article(1);
+        snapshot = ArticleSnapshot.from(article);
+        summary = Fixtures.summaries(1).get(0);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFromEntity() {
+        return new ArticleResponse(article);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFromSnapshot() {
+        return new ArticleResponse(snapshot);
+    }
+
+    @Benchmark
+    public ArticleViewResponse articleViewResponseFromSnapshot() {
+        return new ArticleViewResponse(snapshot);
+    }
+
+    @Benchmark
+    public ArticleListViewResponse articleListViewResponse() {
+        return new ArticleListViewResponse(summary);
+    }
+
+    @Benchmark
+    public ArticleListResponse articleListResponse() {
+        return new ArticleListResponse(summary);
+    }
+
+    @Benchmark
+    public ArticleSnapshot snapshotFromEntity() {
+        return ArticleSnapshot.from(article);
+    }
+}
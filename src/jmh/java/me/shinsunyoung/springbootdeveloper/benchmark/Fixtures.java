@@ -0,0 +1,67 @@
+package me.shinsunyoung.springbootdeveloper.benchmark;
+
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 테스트 데이터 생성 유틸리티
+ */
+final class Fixtures {
+
+    private static final String CONTENT = "스프링 부트로 블로그를 만들어 봅시다. ".repeat(20); // 약 440자 본문 (varchar(255)보다 긴 실제 게시글 크기)
+
+    private Fixtures() {
+    }
+
+    static Article article(int index) {
+        return Article.builder()
+                .title("제목 " + index)
+                .content(CONTENT + index)
+                .build();
+    }
+
+    static List<ArticleSummary> summaries(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleSummary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(new Summary((long) i, "제목 " + i, Article.excerptOf(CONTENT + i), now, now));
+        }
+        return summaries;
+    }
+
+    /**
+     * DB 없이 만든 ArticleSummary 구현체
+     */
+    private record Summary(Long id, String title, String excerpt,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) implements ArticleSummary {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getExcerpt() {
+            return excerpt;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package me.shinsunyoung.springbootdeveloper.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 JSON 직렬화 비용을 목록 크기별로 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size; // 목록 크기
+
+    private ObjectMapper objectMapper;
+    private List<ArticleListResponse> articles;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같게 java.time 모듈 등록, 날짜는 ISO 문자열로 출력
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        articles = Fixtures.summaries(size).stream()
+                .map(ArticleListResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeArticleList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(articles);
+    }
+}
@@ -0,0 +1,22 @@
+package me.shinsunyoung.springbootdeveloper.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ */
+enum Endpoint {
+
+    LIST("GET /api/articles"), // 게시글 목록 API
+    DETAIL("GET /api/articles/{id}"), // 게시글 단건 조회 API
+    PAGE("GET /articles"), // 게시글 목록 화면 (Thymeleaf)
+    WRITE("POST /api/articles"); // 게시글 작성 API
+
+    private final String label; // 결과 출력용 이름
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
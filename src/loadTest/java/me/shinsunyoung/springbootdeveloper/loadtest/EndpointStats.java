@@ -0,0 +1,61 @@
+package me.shinsunyoung.springbootdeveloper.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 지연 히스토그램과 응답 상태 카운터
+ * 지연은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 측정하여 coordinated omission을 보정함
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1); // 기록 가능한 최대 지연
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3); // 마이크로초 단위
+    private final LongAdder success = new LongAdder(); // 2xx, 3xx
+    private final LongAdder clientErrors = new LongAdder(); // 4xx
+    private final LongAdder serverErrors = new LongAdder(); // 5xx
+    private final LongAdder failures = new LongAdder(); // 연결 실패, 타임아웃, 동시 요청 한도 초과
+
+    void record(long intendedNanos, long completedNanos, int status) {
+        histogram.recordValue(Math.min(MAX_LATENCY_MICROS,
+                TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos)));
+
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long intendedNanos, long completedNanos) {
+        histogram.recordValue(Math.min(MAX_LATENCY_MICROS,
+                TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos)));
+        failures.increment();
+    }
+
+    Histogram histogram() {
+        return histogram;
+    }
+
+    long success() {
+        return success.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+}
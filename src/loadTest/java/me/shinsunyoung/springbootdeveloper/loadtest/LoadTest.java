@@ -0,0 +1,297 @@
+package me.shinsunyoung.springbootdeveloper.loadtest;
+
+import me.shinsunyoung.springbootdeveloper.SpringBootDeveloperApplication;
+import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import me.shinsunyoung.springbootdeveloper.dto.AddUserRequest;
+import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import me.shinsunyoung.springbootdeveloper.service.UserService;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내장 서버 대상 부하 테스트 하네스
+ *
+ * 1. SpringBootDeveloperApplication을 랜덤 포트로 실행하고 게시글 N개와 테스트 사용자를 생성
+ * 2. 폼 로그인(/login)으로 화면용 세션을, /api/token으로 API용 액세스 토큰을 얻음
+ * 3. 고정 도착률(open model)로 읽기/쓰기 요청을 섞어 보냄. 응답을 기다리지 않고 예정 시각에 맞춰 보내며,
+ *    지연은 예정 시각부터 측정하므로 서버가 느려져도 측정값이 좋게 왜곡되지 않음 (coordinated omission 보정)
+ * 4. 엔드포인트별 처리량과 지연 분포를 출력하고 HdrHistogram 형식(.hgrm)으로 저장
+ *
+ * 옵션 (시스템 프로퍼티)
+ * - loadtest.rate: 초당 요청 수 (기본 1000)
+ * - loadtest.duration: 측정 시간(초) (기본 30)
+ * - loadtest.warmup: 측정 전 워밍업 시간(초) (기본 5)
+ * - loadtest.articles: 미리 생성할 게시글 수 (기본 10000)
+ * - loadtest.mix: 엔드포인트별 비중 (기본 LIST=40,DETAIL=40,PAGE=10,WRITE=10)
+ * - loadtest.max-in-flight: 동시에 처리 중일 수 있는 최대 요청 수, 초과분은 실패로 기록 (기본 10000)
+ * - loadtest.output: 결과 저장 디렉터리 (기본 build/loadtest)
+ */
+public final class LoadTest {
+
+    private static final String EMAIL = "loadtest@example.com";
+    private static final String PASSWORD = "loadtest";
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("loadtest.rate", 1000);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 5);
+        int articleCount = Integer.getInteger("loadtest.articles", 10000);
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 10000);
+        Map<Endpoint, Integer> mix = parseMix(System.getProperty("loadtest.mix", "LIST=40,DETAIL=40,PAGE=10,WRITE=10"));
+        Path output = Path.of(System.getProperty("loadtest.output", "build/loadtest"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootDeveloperApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0", // 관리 포트도 임의 포트로 (실행 중인 애플리케이션과 충돌 방지)
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run(args)) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            List<Long> ids = seed(context, articleCount);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(new CookieManager()) // 로그인 세션 쿠키 유지
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            login(client, baseUrl);
+            String token = issueToken(client, baseUrl);
+
+            System.out.printf("target %d req/s, warmup %ds, measure %ds, %d articles, mix %s%n",
+                    rate, warmupSeconds, durationSeconds, articleCount, mix);
+
+            Map<Endpoint, EndpointStats> stats = run(client, baseUrl, token, ids, mix, rate,
+                    warmupSeconds, durationSeconds, maxInFlight);
+            report(stats, durationSeconds, output);
+        }
+    }
+
+    /**
+     * 테스트 데이터를 애플리케이션 서비스로 직접 생성 (HTTP를 거치지 않아 빠름)
+     */
+    private static List<Long> seed(ConfigurableApplicationContext context, int articleCount) {
+        context.getBean(UserService.class).save(user());
+
+        BlogService blogService = context.getBean(BlogService.class);
+        List<Long> ids = new ArrayList<>(articleCount);
+        List<AddArticleRequest> batch = new ArrayList<>(1000);
+        for (int i = 0; i < articleCount; i++) {
+            batch.add(new AddArticleRequest("부하 테스트 제목 " + i, "부하 테스트 내용 " + i));
+            if (batch.size() == 1000 || i == articleCount - 1) {
+                ids.addAll(blogService.saveAll(batch));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static AddUserRequest user() {
+        AddUserRequest request = new AddUserRequest();
+        request.setEmail(EMAIL);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+
+    /**
+     * WebSecurityConfig의 폼 로그인 흐름으로 세션을 얻음 (성공 시 /articles로 리다이렉트됨)
+     */
+    private static void login(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String form = "username=" + URLEncoder.encode(EMAIL, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("login failed: " + response.statusCode() + " " + location);
+        }
+    }
+
+    /**
+     * /api/token에서 API 요청에 사용할 액세스 토큰을 발급받음 (API 요청은 세션 없이 이 토큰으로 인증됨)
+     */
+    private static String issueToken(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/token"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("token request failed: " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * 고정 도착률로 요청을 보내는 메서드
+     * i번째 요청의 예정 시각은 start + i * interval 이며, 발송이 늦어져도 예정 시각 기준으로 지연을 기록함
+     */
+    private static Map<Endpoint, EndpointStats> run(HttpClient client, String baseUrl, String token, List<Long> ids,
+                                                    Map<Endpoint, Integer> mix, int rate,
+                                                    int warmupSeconds, int durationSeconds,
+                                                    int maxInFlight) throws InterruptedException {
+        Map<Endpoint, EndpointStats> measured = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, EndpointStats> warmup = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            measured.put(endpoint, new EndpointStats());
+            warmup.put(endpoint, new EndpointStats());
+        }
+
+        Endpoint[] schedule = weightedSchedule(mix);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            EndpointStats stats = (intended >= measureFrom ? measured : warmup).get(endpoint);
+            if (!inFlight.tryAcquire()) {
+                stats.recordFailure(intended, System.nanoTime()); // 동시 요청 한도 초과
+                continue;
+            }
+
+            client.sendAsync(request(baseUrl, token, endpoint, ids), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long completed = System.nanoTime();
+                        inFlight.release();
+                        if (error != null) {
+                            stats.recordFailure(intended, completed);
+                        } else {
+                            stats.record(intended, completed, response.statusCode());
+                        }
+                    });
+        }
+
+        // 남은 요청이 끝날 때까지 대기 (최대 30초)
+        if (!inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            System.out.println("warning: some requests did not complete within 30s");
+        }
+        return measured;
+    }
+
+    private static HttpRequest request(String baseUrl, String token, Endpoint endpoint, List<Long> ids) {
+        String authorization = "Bearer " + token;
+        return switch (endpoint) {
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/articles"))
+                    .header("Authorization", authorization).GET().build();
+            case DETAIL -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/articles/"
+                            + ids.get(ThreadLocalRandom.current().nextInt(ids.size()))))
+                    .header("Authorization", authorization).GET().build();
+            case PAGE -> HttpRequest.newBuilder(URI.create(baseUrl + "/articles")).GET().build();
+            case WRITE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/articles"))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"load test\",\"content\":\"written by load test\"}"))
+                    .build();
+        };
+    }
+
+    private static Endpoint[] weightedSchedule(Map<Endpoint, Integer> mix) {
+        List<Endpoint> schedule = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(endpoint);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights");
+        }
+        return schedule.toArray(new Endpoint[0]);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Endpoint.valueOf(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * 엔드포인트별 처리량/지연 요약을 출력하고 .hgrm 파일로 저장 (값은 밀리초 단위)
+     */
+    private static void report(Map<Endpoint, EndpointStats> stats, int durationSeconds, Path output)
+            throws IOException {
+        Files.createDirectories(output);
+
+        System.out.printf("%n%-24s %10s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "req/s", "ok", "4xx", "5xx", "fail", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.histogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+
+            System.out.printf("%-24s %10.1f %8d %8d %8d %9d %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().label(),
+                    (double) histogram.getTotalCount() / durationSeconds,
+                    endpointStats.success(), endpointStats.clientErrors(),
+                    endpointStats.serverErrors(), endpointStats.failures(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+
+            Path file = output.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0); // 마이크로초 -> 밀리초
+            }
+        }
+        System.out.println("\nhistograms written to " + output.toAbsolutePath());
+    }
+}
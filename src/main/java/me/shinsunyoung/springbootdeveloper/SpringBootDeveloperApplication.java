@@ -2,14 +2,18 @@ package me.shinsunyoung.springbootdeveloper;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // created_at, updated_at 알아서 업데이트함
+@EnableScheduling // 조회수 반영 등 주기 작업 실행
 @SpringBootApplication
 public class SpringBootDeveloperApplication {
     public static void main(String[] args){
-        SpringApplication.run(SpringBootDeveloperApplication.class, args);
-
-
+        SpringApplication application = new SpringApplication(SpringBootDeveloperApplication.class);
+        // 시작 단계별 소요 시간 기록 (StartupTimingReporter가 준비 완료 시 로그로 출력하고 비움)
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 }
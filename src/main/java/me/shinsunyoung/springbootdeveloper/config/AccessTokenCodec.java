@@ -0,0 +1,154 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * /api/** 요청에 사용하는 HMAC-SHA256 서명 액세스 토큰을 발급/검증하는 클래스
+ *
+ * 토큰 형식: base64url(만료시각|권한1,권한2|이메일) + "." + base64url(HMAC-SHA256 서명)
+ * 검증은 서명과 만료 시각만 확인하므로 DB나 세션을 조회하지 않음. 같은 비밀 키를 쓰는 노드라면 어디서든 검증 가능
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class AccessTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256"; // 서명 알고리즘
+    private static final int MAX_TOKEN_LENGTH = 1024; // 이보다 긴 토큰은 서명을 계산하지 않고 거부
+    private static final char SEPARATOR = '|'; // 본문 필드 구분 문자
+
+    private final SecretKeySpec key; // 서명 키
+    private final Duration ttl; // 토큰 유효 시간
+    // 키로 초기화해 둔 원본 Mac (직접 쓰지 않고 서명할 때마다 복제함, Mac은 스레드 안전하지 않음)
+    // 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal에 두면 요청마다 Mac을 새로 만들게 됨
+    private final Mac prototype;
+
+    public AccessTokenCodec(@Value("${blog.security.token.secret:}") String secret,
+                            @Value("${blog.security.token.ttl:15m}") Duration ttl) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("blog.security.token.secret is not set; using a random key. "
+                    + "Access tokens will not survive a restart or validate on other nodes.");
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < 32) {
+                throw new IllegalArgumentException("blog.security.token.secret must be at least 256 bits");
+            }
+        }
+
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.prototype = initMac();
+    }
+
+    /**
+     * 인증된 사용자에게 액세스 토큰을 발급하는 메서드
+     *
+     * @param user 인증된 사용자
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(UserDetails user) {
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+        String authorities = String.join(",", AuthorityUtils.authorityListToSet(user.getAuthorities()));
+        String body = expiresAt + String.valueOf(SEPARATOR) + authorities + SEPARATOR + user.getUsername();
+
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(body.getBytes(StandardCharsets.UTF_8));
+        byte[] signature = sign(payload.getBytes(StandardCharsets.US_ASCII), payload.length());
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * 토큰을 검증하고 인증 객체로 변환하는 메서드
+     * 서명을 먼저 확인하고, 서명이 맞을 때만 본문을 해석함
+     *
+     * @param token 클라이언트가 보낸 토큰
+     * @return 인증 객체, 서명이 틀리거나 만료되었거나 형식이 잘못된 경우 null
+     */
+    public Authentication verify(String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        int dot = token.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+
+        try {
+            byte[] expected = sign(token.getBytes(StandardCharsets.US_ASCII), dot);
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) { // 비교 시간이 내용과 무관한 비교
+                return null;
+            }
+
+            String body = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            int first = body.indexOf(SEPARATOR);
+            int second = body.indexOf(SEPARATOR, first + 1);
+            if (Long.parseLong(body, 0, first, 10) < Instant.now().getEpochSecond()) {
+                return null; // 만료된 토큰
+            }
+
+            List<GrantedAuthority> authorities = AuthorityUtils.commaSeparatedStringToAuthorityList(
+                    body.substring(first + 1, second));
+            return UsernamePasswordAuthenticationToken.authenticated(body.substring(second + 1), null, authorities);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null; // Base64/숫자 형식 오류 또는 구분자 누락
+        }
+    }
+
+    /**
+     * 토큰 유효 시간을 반환하는 메서드
+     *
+     * @return 토큰 유효 시간
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(byte[] data, int length) {
+        Mac mac = newMac();
+        mac.update(data, 0, length);
+        return mac.doFinal();
+    }
+
+    /**
+     * 서명에 쓸 Mac을 만드는 메서드
+     * 원본을 복제하면 제공자 조회와 키 처리(HMAC 패딩 계산)를 다시 하지 않으므로 getInstance + init보다 가벼움
+     */
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return initMac(); // 복제를 지원하지 않는 제공자
+        }
+    }
+
+    private Mac initMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
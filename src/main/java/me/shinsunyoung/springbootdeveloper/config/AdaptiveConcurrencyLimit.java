@@ -0,0 +1,118 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측한 지연 시간으로 동시 처리 한도를 조절하는 AIMD(additive increase / multiplicative decrease) 한도
+ *
+ * - 최근 지연(단기 평균)이 평소 지연(장기 평균 x tolerance)보다 길거나 요청이 실패하면 한도를 backoff 비율로 줄임
+ *   (단기 평균 지연 한 번에 최대 1회)
+ * - 지연이 정상이고 한도의 절반 이상을 쓰고 있으면 한도를 조금씩 늘림 (한도만큼 성공할 때마다 약 +1)
+ * - 한도를 넘는 요청은 기다리지 않고 바로 거절하므로 DB가 느려져도 스레드와 메모리가 쌓이지 않음
+ *
+ * 캐시 적중(수십 us)과 DB 조회(수 ms)가 섞여 있으므로 최소 지연이 아닌 이동 평균끼리 비교함
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_ALPHA = 0.1; // 단기 평균 가중치 (최근 약 10개 요청)
+    private static final double LONG_ALPHA = 1.0 / 600; // 장기 평균 가중치 (최근 약 600개 요청)
+
+    private final int minLimit; // 한도 하한
+    private final int maxLimit; // 한도 상한
+    private final double tolerance; // 기준 지연 대비 허용 배수
+    private final double backoffRatio; // 과부하 시 한도에 곱하는 비율
+    private final LongSupplier nanoClock; // 한도를 줄이는 간격 계산용 시계 (테스트에서 교체)
+
+    private final AtomicInteger inFlight = new AtomicInteger(); // 처리 중인 요청 수
+    private final LongAdder rejected = new LongAdder(); // 거절한 요청 수
+    private volatile double limit; // 현재 한도 (소수점은 누적 증가분)
+
+    private double shortRtt; // 최근 지연의 이동 평균 (ns, 첫 요청 전에는 0)
+    private double longRtt; // 평소 지연의 이동 평균 (ns, 첫 요청 전에는 0)
+    private long lastDecrease; // 마지막으로 한도를 줄인 시각
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, tolerance, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio,
+                             LongSupplier nanoClock) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.lastDecrease = nanoClock.getAsLong(); // nanoTime의 기준점은 임의이므로 0이 아닌 현재 시각에서 시작
+    }
+
+    /**
+     * 요청을 처리해도 되는지 확인하고 자리를 차지하는 메서드
+     *
+     * @return 한도 안이면 true (처리 후 반드시 release 호출), 한도를 넘으면 false
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 처리가 끝났을 때 자리를 반납하고 한도를 조절하는 메서드
+     *
+     * @param rttNanos 요청 처리 시간 (ns)
+     * @param failed   과부하 신호(503/504 응답이나 요청 오류가 아닌 예외)로 끝났으면 true
+     */
+    void release(long rttNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, failed, current);
+    }
+
+    private synchronized void update(long rttNanos, boolean failed, int inFlightAtRelease) {
+        if (!failed) {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) * SHORT_ALPHA;
+                longRtt += (rttNanos - longRtt) * LONG_ALPHA;
+                if (longRtt > shortRtt * 2) {
+                    longRtt *= 0.95; // 과부하가 끝난 뒤 높아진 평소 지연이 빨리 내려오도록 보정
+                }
+            }
+        }
+
+        long now = nanoClock.getAsLong();
+        boolean overloaded = failed || shortRtt > longRtt * tolerance;
+        if (overloaded) {
+            if (now - lastDecrease > Math.max((long) shortRtt, TimeUnit.MILLISECONDS.toNanos(1))) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecrease = now;
+            }
+        } else if (inFlightAtRelease * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit); // 한도의 절반 이상을 쓸 때만 늘림
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getRejected() {
+        return rejected.sum();
+    }
+}
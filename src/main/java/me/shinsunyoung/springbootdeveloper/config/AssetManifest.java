@@ -0,0 +1,85 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스의 콘텐츠 해시 목록 (빌드 시 만든 static/asset-manifest.properties)
+ * - 파일별 해시는 핑거프린트 URL(/js/article-{hash}.js)에 사용 (ManifestVersionStrategy)
+ * - 전체 해시를 합친 자산 버전은 HTML 화면의 ETag에 포함하여, 배포로 스크립트가 바뀌면
+ *   예전 해시 URL을 가리키는 HTML이 304로 재사용되지 않게 함
+ * 매니페스트가 없으면(IDE에서 바로 실행한 경우 등) 시작 시 static 아래 파일을 읽어 같은 값을 계산함
+ */
+@Component // 스프링 빈으로 등록
+public class AssetManifest {
+
+    private static final String STATIC_PREFIX = "static/"; // 매니페스트 키는 static/ 아래 상대 경로
+    private static final Pattern ASSET_FILE = Pattern.compile(".*\\.(js|css|svg|json|txt|html)$"); // build.gradle과 같은 대상
+
+    private final Map<String, String> hashes; // 상대 경로 -> MD5 (경로 순 정렬)
+    private final String version; // 전체 자산 버전
+
+    public AssetManifest() {
+        this.hashes = load();
+        StringBuilder entries = new StringBuilder();
+        hashes.forEach((path, hash) -> entries.append(path).append('=').append(hash).append('\n'));
+        this.version = DigestUtils.md5DigestAsHex(entries.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+    }
+
+    /**
+     * static/ 아래 상대 경로의 콘텐츠 해시를 반환하는 메서드
+     *
+     * @param path static/ 아래 상대 경로 (예: js/article.js)
+     * @return MD5 해시 (목록에 없으면 null)
+     */
+    public String hashOf(String path) {
+        return hashes.get(path);
+    }
+
+    /**
+     * 모든 정적 리소스의 해시로 만든 자산 버전을 반환하는 메서드
+     * 정적 리소스가 하나라도 바뀌면 값이 바뀜
+     *
+     * @return 8자리 16진수 문자열
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    private static Map<String, String> load() {
+        Map<String, String> hashes = new TreeMap<>();
+        ClassPathResource manifest = new ClassPathResource(STATIC_PREFIX + "asset-manifest.properties");
+        try {
+            if (manifest.exists()) {
+                PropertiesLoaderUtils.loadProperties(manifest)
+                        .forEach((path, hash) -> hashes.put((String) path, (String) hash));
+                return hashes;
+            }
+
+            for (Resource resource : new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:" + STATIC_PREFIX + "**/*")) {
+                String url = resource.getURL().toString();
+                if (!resource.isReadable() || !ASSET_FILE.matcher(url).matches()) {
+                    continue;
+                }
+                String path = url.substring(url.lastIndexOf("/" + STATIC_PREFIX) + STATIC_PREFIX.length() + 1);
+                hashes.put(path, DigestUtils.md5DigestAsHex(FileCopyUtils.copyToByteArray(resource.getInputStream())));
+            }
+            return hashes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load asset hashes", e);
+        }
+    }
+}
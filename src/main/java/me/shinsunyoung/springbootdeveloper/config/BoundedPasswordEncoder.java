@@ -0,0 +1,129 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시 계산과 비밀번호 검증을 전용 스레드 풀에서만 실행하는 PasswordEncoder.
+ * 로그인이 몰려도 해시 계산에 쓰이는 코어 수가 스레드 수로 제한되어 게시글 조회 요청이 굶지 않음.
+ * 대기열까지 가득 차면 기다리지 않고 PasswordEncoderBusyException을 던짐.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private final BCryptPasswordEncoder delegate; // 실제 해시 계산을 담당하는 인코더
+    private final ThreadPoolExecutor executor; // 해시 전용 스레드 풀 (대기열 크기 제한)
+
+    /**
+     * @param strength      BCrypt 비용(log2 반복 횟수, 4~31)
+     * @param threads       해시 계산에 사용할 최대 스레드 수
+     * @param queueCapacity 스레드가 모두 사용 중일 때 기다릴 수 있는 요청 수
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()); // 대기열이 가득 차면 RejectedExecutionException
+    }
+
+    /**
+     * 비밀번호를 현재 비용으로 해시하는 메서드
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시 문자열
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호가 저장된 해시와 일치하는지 확인하는 메서드
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 일치하면 true
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮은지 확인하는 메서드 (해시 문자열만 보므로 스레드 풀을 쓰지 않음)
+     *
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 다시 해시해야 하면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해시 스레드 풀의 사용량/대기열 지표를 executor.* 로 등록하는 메서드
+     *
+     * @param registry 지표 저장소
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "password-hash", List.of()).bindTo(registry);
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀을 정리하는 메서드
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 작업을 해시 스레드 풀에 넣고 결과를 기다리는 메서드
+     *
+     * @param task 해시 작업
+     * @return 작업 결과
+     * @throws PasswordEncoderBusyException 대기열이 가득 찬 경우
+     */
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordEncoderBusyException("password hashing queue is full");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; // 잘못된 해시 형식 등 원래 예외를 그대로 전달
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 게시글 엔드포인트의 동시 처리 한도(load shedding) 설정 클래스
+ * 읽기/쓰기 한도를 따로 만들고, 현재 한도/처리 중 요청 수/거절 수를 지표로 노출함
+ * (http.concurrency.limit, http.concurrency.in.flight, http.concurrency.rejected - type=read|write)
+ */
+@Configuration // Spring 설정 클래스임을 나타냄
+@ConditionalOnProperty(prefix = "blog.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 동시 처리 한도 필터 등록
+     * 스프링 시큐리티보다 먼저 실행하여 과부하 시 세션/인증 처리 비용도 들이지 않고 거절함
+     *
+     * @param meterRegistry 지표 저장소
+     * @param environment   blog.concurrency-limit.read.* / write.* 설정
+     * @param excludedPaths 제한하지 않는 경로 (스트리밍 등 오래 걸리는 요청)
+     * @return 필터 등록 객체
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry, Environment environment,
+            @Value("${blog.concurrency-limit.excluded-paths:/api/articles/export,/api/articles/changes}") List<String> excludedPaths) {
+
+        AdaptiveConcurrencyLimit readLimit = limit(environment, "read", 100, meterRegistry);
+        AdaptiveConcurrencyLimit writeLimit = limit(environment, "write", 20, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(readLimit, writeLimit, excludedPaths));
+        registration.addUrlPatterns("/api/articles/*", "/articles/*"); // 게시글 API와 화면에만 적용
+        registration.setOrder(-300); // 다른 필터보다 먼저
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimit limit(Environment environment, String type, int defaultInitial,
+                                                  MeterRegistry meterRegistry) {
+        String prefix = "blog.concurrency-limit." + type + ".";
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                environment.getProperty(prefix + "initial", Integer.class, defaultInitial),
+                environment.getProperty(prefix + "min", Integer.class, 4),
+                environment.getProperty(prefix + "max", Integer.class, 1000),
+                environment.getProperty(prefix + "tolerance", Double.class, 2.0),
+                environment.getProperty(prefix + "backoff-ratio", Double.class, 0.9));
+
+        Gauge.builder("http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests currently being processed")
+                .tag("type", type)
+                .register(meterRegistry);
+        FunctionCounter.builder("http.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("type", type)
+                .register(meterRegistry);
+        return limit;
+    }
+}
@@ -0,0 +1,91 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 게시글 엔드포인트 앞에서 동시 처리 요청 수를 제한하는 필터 (load shedding)
+ * 읽기(GET/HEAD)와 쓰기 요청은 서로 다른 AdaptiveConcurrencyLimit을 사용하며,
+ * 한도를 넘는 요청은 대기열에 넣지 않고 바로 503과 Retry-After로 거절함
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimit readLimit; // 읽기 요청 한도
+    private final AdaptiveConcurrencyLimit writeLimit; // 쓰기 요청 한도
+    private final List<String> excludedPaths; // 제한하지 않는 경로 (스트리밍처럼 오래 걸리는 요청)
+
+    ConcurrencyLimitFilter(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                           List<String> excludedPaths) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = isRead(request) ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+            failed = isOverloadStatus(response.getStatus());
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failed = isOverload(e);
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * 과부하를 뜻하는 응답 상태인지 확인하는 메서드
+     * 없는 게시글 같은 요청 오류는 다른 요청의 처리 능력과 관계없으므로 500이라도 제외하고
+     * 하위 단계에서 과부하로 거절한 503과 시간 초과인 504만 과부하로 취급함
+     */
+    private static boolean isOverloadStatus(int status) {
+        return status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                || status == HttpServletResponse.SC_GATEWAY_TIMEOUT;
+    }
+
+    /**
+     * 처리 중 던져진 예외가 과부하 신호인지 확인하는 메서드
+     * 요청 값이 잘못되었거나 대상이 없을 때 던지는 IllegalArgumentException은 제외하고,
+     * 커넥션 풀 대기 시간 초과 등 그 밖의 예외는 과부하로 취급함
+     */
+    static boolean isOverload(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                return false;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
@@ -0,0 +1,144 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주 DB(primary)/복제본(replica) 라우팅 설정 클래스
+ * blog.datasource.replica.url 이 설정된 경우에만 적용되며, 없으면 spring.datasource 하나만 사용함
+ *
+ * - @Transactional(readOnly = true) 트랜잭션과 Spring Data 조회 메서드는 복제본 풀에서 실행
+ * - 그 외(쓰기) 트랜잭션은 주 DB 풀에서 실행
+ * - 쓰기를 한 클라이언트는 stickiness 시간 동안 주 DB에서 읽음 (ReadYourWritesFilter)
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Configuration // Spring 설정 클래스임을 나타냄
+@ConditionalOnProperty(prefix = "blog.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource.* 설정 사용)
+     *
+     * @param properties spring.datasource 설정
+     * @return 주 DB 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari") // 풀 크기 등 Hikari 설정 적용
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀 (blog.datasource.replica.* 설정 사용)
+     *
+     * @return 복제본 커넥션 풀 (읽기 전용 커넥션)
+     */
+    @Bean
+    @ConfigurationProperties("blog.datasource.replica.hikari") // 풀 크기 등 Hikari 설정 적용
+    public HikariDataSource replicaDataSource(@Value("${blog.datasource.replica.url}") String url,
+                                              @Value("${blog.datasource.replica.username:sa}") String username,
+                                              @Value("${blog.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true); // 복제본에 실수로 쓰지 않도록 커넥션을 읽기 전용으로 설정
+        return dataSource;
+    }
+
+    /**
+     * JPA와 JdbcTemplate이 사용하는 라우팅 DataSource
+     * LazyConnectionDataSourceProxy로 감싸서 실제 SQL을 실행할 때(트랜잭션의 readOnly 여부가 정해진 뒤) 풀을 고름
+     *
+     * @param primary 주 DB 커넥션 풀
+     * @param replica 복제본 커넥션 풀
+     * @return 라우팅 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primary,
+                ReplicaRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 쓰기 후 읽기를 주 DB로 보내는 필터 등록 (시큐리티 필터보다 먼저 실행되어 로그인 시 사용자 조회에도 적용됨)
+     *
+     * @param stickiness 쓰기 후 주 DB에서 읽는 시간 (복제 지연보다 길게 설정)
+     * @return 필터 등록 객체
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${blog.datasource.replica.stickiness:5s}") Duration stickiness) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickiness));
+        registration.setOrder(-200); // 스프링 시큐리티 필터(-100)보다 먼저
+        return registration;
+    }
+
+    /**
+     * 로컬 개발용: 복제본 H2에 주 H2의 테이블을 읽기 전용 링크 테이블로 만듦
+     * 실제 복제 대신 두 개의 H2 데이터베이스로 라우팅을 확인하기 위한 설정 (blog.datasource.replica.link-primary-tables)
+     *
+     * @param primary    주 DB 커넥션 풀
+     * @param replica    복제본 커넥션 풀
+     * @param properties 주 DB 접속 정보
+     * @return 애플리케이션 시작 후(스키마 생성 후) 실행되는 작업
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "blog.datasource.replica", name = "link-primary-tables", havingValue = "true")
+    public ApplicationRunner linkReplicaTables(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") HikariDataSource replica,
+                                               DataSourceProperties properties) {
+        return args -> {
+            List<String> tables = new JdbcTemplate(primary).queryForList(
+                    "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'", String.class);
+
+            // 링크 테이블은 DDL이므로 읽기 전용 풀이 아닌 별도 커넥션으로 생성
+            DataSource ddl = DataSourceBuilder.create()
+                    .type(SimpleDriverDataSource.class)
+                    .url(replica.getJdbcUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(ddl);
+            for (String table : tables) {
+                jdbcTemplate.execute("CREATE LINKED TABLE IF NOT EXISTS " + table + "('org.h2.Driver', '"
+                        + properties.determineUrl() + "', '" + properties.determineUsername() + "', '"
+                        + properties.determinePassword() + "', '" + table + "') READONLY");
+            }
+            log.info("linked {} primary tables into replica {}", tables.size(), replica.getJdbcUrl());
+        };
+    }
+}
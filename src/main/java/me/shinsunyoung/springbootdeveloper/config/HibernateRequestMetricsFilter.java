@@ -0,0 +1,51 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 로드된 엔티티 수를 라우트별 분포 지표로 기록하는 필터
+ * (hibernate.request.statements, hibernate.request.entity.loads)
+ */
+@RequiredArgsConstructor // final 필드가 있는 생성자를 자동으로 생성 (의존성 주입을 위해 사용)
+public class HibernateRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry; // 지표 저장소
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long[] counters = RequestStatistics.stop();
+            if (counters != null) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern == null ? "UNKNOWN" : pattern.toString(); // 카디널리티 폭발 방지를 위해 패턴 사용
+
+                summary("hibernate.request.statements", "SQL statements prepared per request", uri)
+                        .record(counters[0]);
+                summary("hibernate.request.entity.loads", "Entities loaded per request", uri)
+                        .record(counters[1]);
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
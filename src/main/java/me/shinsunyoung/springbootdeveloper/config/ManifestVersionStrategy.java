@@ -0,0 +1,44 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.AbstractVersionStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 빌드 시 계산한 콘텐츠 해시(AssetManifest)로 리소스 버전을 정하는 전략
+ * 목록에 없는 리소스는 실행 중에 MD5를 계산함
+ * (ContentVersionStrategy와 같은 값이므로 어느 쪽으로 계산해도 URL이 같음)
+ */
+class ManifestVersionStrategy extends AbstractVersionStrategy {
+
+    private static final String STATIC_PREFIX = "static/"; // 매니페스트 키는 static/ 아래 상대 경로
+
+    private final AssetManifest manifest; // 상대 경로 -> MD5
+
+    ManifestVersionStrategy(AssetManifest manifest) {
+        super(new FileNameVersionPathStrategy());
+        this.manifest = manifest;
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        if (resource instanceof ClassPathResource classPathResource
+                && classPathResource.getPath().startsWith(STATIC_PREFIX)) {
+            String version = manifest.hashOf(classPathResource.getPath().substring(STATIC_PREFIX.length()));
+            if (version != null) {
+                return version;
+            }
+        }
+
+        try {
+            return DigestUtils.md5DigestAsHex(FileCopyUtils.copyToByteArray(resource.getInputStream()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to compute version of " + resource, e);
+        }
+    }
+}
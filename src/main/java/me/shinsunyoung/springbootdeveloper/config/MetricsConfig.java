@@ -0,0 +1,83 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 성능 지표 수집 설정 클래스
+ * - 요청별 Hibernate SQL 문 수 / 엔티티 로드 수 수집
+ * - 콘솔 SQL 출력 대신 선택적으로 켜는 표본(sampled) SQL 로그와 느린 쿼리 로그
+ * 라우트별 지연 히스토그램과 커넥션 풀 대기 시간은 액추에이터 기본 지표(http.server.requests,
+ * hikaricp.connections.acquire)를 사용하며 /actuator/prometheus 로 수집함
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Configuration // Spring 설정 클래스임을 나타냄
+public class MetricsConfig {
+
+    /**
+     * Hibernate 설정을 추가하는 빈
+     * SQL 문마다 카운터를 올리는 StatementInspector와 느린 쿼리 로그 임계값을 등록함
+     *
+     * @param sampleRate    일반 SQL을 로그로 남길 비율 (0이면 끔, 1이면 전부)
+     * @param slowThreshold 이 시간(ms)보다 오래 걸린 SQL을 로그로 남김 (0이면 끔)
+     * @return HibernatePropertiesCustomizer 객체
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer(
+            @Value("${blog.sql-log.sample-rate:0}") double sampleRate,
+            @Value("${blog.sql-log.slow-threshold-ms:0}") long slowThreshold) {
+
+        StatementInspector inspector = sql -> {
+            RequestStatistics.statementPrepared();
+            if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("sampled sql: {}", sql);
+            }
+            return sql;
+        };
+
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+            if (slowThreshold > 0) {
+                properties.put("hibernate.log_slow_query", slowThreshold); // org.hibernate.SQL_SLOW 로거로 출력
+            }
+        };
+    }
+
+    /**
+     * 요청별 Hibernate 지표를 기록하는 필터 등록
+     * 엔티티가 로드될 때마다 카운터를 올리는 POST_LOAD 리스너도 함께 등록함
+     * 스프링 시큐리티 필터보다 먼저 실행하여 로그인/토큰 인증 중의 사용자 조회 SQL도 요청 통계에 포함함
+     *
+     * @param meterRegistry        지표 저장소
+     * @param entityManagerFactory 리스너를 등록할 EntityManagerFactory
+     * @return 필터 등록 객체
+     */
+    @Bean
+    public FilterRegistrationBean<HibernateRequestMetricsFilter> hibernateRequestMetricsFilter(
+            MeterRegistry meterRegistry, EntityManagerFactory entityManagerFactory) {
+
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestStatistics.entityLoaded());
+
+        FilterRegistrationBean<HibernateRequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new HibernateRequestMetricsFilter(meterRegistry));
+        registration.setOrder(-250); // 스프링 시큐리티 필터(-100)와 읽기 라우팅 필터(-200)보다 먼저
+        return registration;
+    }
+}
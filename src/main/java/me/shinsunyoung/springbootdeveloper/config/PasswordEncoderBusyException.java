@@ -0,0 +1,14 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 스레드 풀의 대기열이 가득 차서 요청을 처리하지 못했을 때 발생하는 예외.
+ * 로그인 과정에서 던져지면 인증 실패 처리기가 503과 Retry-After로 응답함.
+ */
+public class PasswordEncoderBusyException extends AuthenticationServiceException {
+
+    public PasswordEncoderBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,77 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+
+/**
+ * 요청 하나 동안 "복제본(replica) 대신 주 DB(primary)에서 읽어야 하는지"를 담는 스레드 로컬 상태
+ * ReadYourWritesFilter가 요청 시작/종료 시 설정/정리하고, ReplicaRoutingDataSource가 참조함
+ *
+ * 쓰기가 일어나면 응답에 쿠키를 붙여 이후 stickiness 시간 동안 같은 클라이언트의 읽기를 주 DB로 보냄
+ * (복제 지연 때문에 방금 쓴 내용이 안 보이는 문제 방지, 서버에 세션 상태를 두지 않음)
+ */
+final class ReadYourWrites {
+
+    static final String COOKIE_NAME = "blog-read-primary"; // 값: 주 DB에서 읽어야 하는 시각(epoch ms)까지
+
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void begin(HttpServletResponse response, Duration stickiness, boolean readPrimary) {
+        CONTEXT.set(new Context(response, stickiness, readPrimary));
+    }
+
+    static void end() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * 현재 요청의 읽기를 주 DB로 보내야 하는지 여부
+     *
+     * @return 최근에 쓰기를 한 클라이언트의 요청이면 true
+     */
+    static boolean readPrimary() {
+        Context context = CONTEXT.get();
+        return context != null && context.readPrimary;
+    }
+
+    /**
+     * 현재 요청에서 주 DB에 쓰기 트랜잭션이 시작되었음을 기록하는 메서드
+     * 이후 이 요청의 읽기와 stickiness 시간 동안의 다음 요청들은 주 DB에서 읽음
+     */
+    static void wrotePrimary() {
+        Context context = CONTEXT.get();
+        if (context == null || context.cookieSent) {
+            return; // 요청 밖(스케줄러 등)의 쓰기이거나 이미 쿠키를 붙인 경우
+        }
+
+        context.readPrimary = true;
+        if (!context.response.isCommitted()) {
+            long until = System.currentTimeMillis() + context.stickiness.toMillis();
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, context.stickiness.toSeconds()));
+            context.response.addCookie(cookie);
+            context.cookieSent = true;
+        }
+    }
+
+    private static final class Context {
+
+        private final HttpServletResponse response; // 쿠키를 붙일 응답
+        private final Duration stickiness; // 쓰기 후 주 DB에서 읽는 시간
+        private boolean readPrimary; // 이 요청의 읽기를 주 DB로 보낼지 여부
+        private boolean cookieSent; // 이번 요청에서 쿠키를 이미 붙였는지 여부
+
+        private Context(HttpServletResponse response, Duration stickiness, boolean readPrimary) {
+            this.response = response;
+            this.stickiness = stickiness;
+            this.readPrimary = readPrimary;
+        }
+    }
+}
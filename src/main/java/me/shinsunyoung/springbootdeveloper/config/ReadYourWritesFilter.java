@@ -0,0 +1,53 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 한 클라이언트의 읽기를 주 DB로 보내는 필터 (read-your-writes)
+ * 쓰기 시 ReadYourWrites가 붙인 쿠키의 시각이 아직 지나지 않았으면 이번 요청의 모든 읽기를 주 DB에서 처리함
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Duration stickiness; // 쓰기 후 주 DB에서 읽는 시간 (복제 지연보다 길게 설정)
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.begin(response, stickiness, recentlyWrote(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private static boolean recentlyWrote(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (ReadYourWrites.COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
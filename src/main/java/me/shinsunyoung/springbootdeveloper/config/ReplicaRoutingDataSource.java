@@ -0,0 +1,27 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(replica)으로, 나머지는 주 DB(primary)로 보내는 DataSource
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용함
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && !ReadYourWrites.readPrimary()) {
+            return REPLICA;
+        }
+
+        if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.wrotePrimary(); // 쓰기 트랜잭션 이후의 읽기는 주 DB에서 처리
+        }
+        return PRIMARY;
+    }
+}
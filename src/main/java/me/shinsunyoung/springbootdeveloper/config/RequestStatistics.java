@@ -0,0 +1,42 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 수와 로드된 엔티티 수를 모으는 스레드 로컬 카운터
+ * HibernateRequestMetricsFilter가 요청 시작/종료 시 초기화하고 수집함
+ */
+final class RequestStatistics {
+
+    private static final ThreadLocal<long[]> COUNTERS = new ThreadLocal<>(); // [SQL 문 수, 엔티티 로드 수]
+
+    private RequestStatistics() {
+    }
+
+    static void start() {
+        COUNTERS.set(new long[2]);
+    }
+
+    /**
+     * 수집을 끝내고 카운터 값을 반환하는 메서드
+     *
+     * @return [SQL 문 수, 엔티티 로드 수] (수집 중이 아니었으면 null)
+     */
+    static long[] stop() {
+        long[] counters = COUNTERS.get();
+        COUNTERS.remove();
+        return counters;
+    }
+
+    static void statementPrepared() {
+        long[] counters = COUNTERS.get();
+        if (counters != null) {
+            counters[0]++;
+        }
+    }
+
+    static void entityLoaded() {
+        long[] counters = COUNTERS.get();
+        if (counters != null) {
+            counters[1]++;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 빠른 시작(prod 프로필의 spring.main.lazy-initialization) 관련 설정 클래스
+ * 지연 초기화를 켜도 다른 빈이 주입받지 않는 "스스로 돌아가는" 빈은 시작 시 바로 만들어야 함
+ * - @Scheduled 메서드가 있는 빈 (조회수 반영, 인기 순위 계산, 재렌더링, 변경 피드 heartbeat 등)
+ * - SmartLifecycle 빈 (게시글 비동기 저장 대기열 등, 종료 시 대기열 비우기를 위해 시작되어 있어야 함)
+ */
+@Configuration // Spring 설정 클래스임을 나타냄
+public class StartupConfig {
+
+    /**
+     * 지연 초기화에서 제외할 빈을 고르는 필터
+     * (빈 팩토리 후처리 단계에서 사용되므로 static으로 선언)
+     *
+     * @return 지연 초기화 제외 필터
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                SmartLifecycle.class.isAssignableFrom(beanType) || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (!AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
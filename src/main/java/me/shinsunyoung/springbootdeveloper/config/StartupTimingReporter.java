@@ -0,0 +1,112 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 단계별 소요 시간을 로그로 남기는 클래스 (시작 시간 회귀 확인용)
+ * SpringBootDeveloperApplication이 BufferingApplicationStartup으로 기록한 단계를 모아
+ * - 최상위 단계(환경 준비, 컨텍스트 준비/로드, refresh 등)별 시간
+ * - refresh 안의 주요 단계(빈 팩토리 후처리, 웹 서버 생성 등)별 시간
+ * - 자기 시간(의존 빈 생성 시간을 뺀 시간)이 가장 긴 빈 목록
+ * 을 출력함. 출력한 기록은 버퍼에서 비움 (테스트처럼 기록하지 않는 실행에서는 아무것도 하지 않음)
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class StartupTimingReporter {
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate"; // 빈 생성 단계 이름
+
+    private final int topBeans; // 출력할 느린 빈 개수
+
+    public StartupTimingReporter(@Value("${blog.startup.report-top-beans:10}") int topBeans) {
+        this.topBeans = topBeans;
+    }
+
+    /**
+     * 시작이 끝나면 단계별 소요 시간을 출력하는 메서드
+     *
+     * @param event 애플리케이션 준비 완료 이벤트
+     */
+    @EventListener
+    public void report(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> events = startup.drainBufferedTimeline().getEvents();
+
+        // 자식 단계 시간 합계 (빈의 자기 시간 계산용)
+        Map<Long, Long> childNanos = new HashMap<>();
+        Map<Long, StartupTimeline.TimelineEvent> byId = new HashMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : events) {
+            StartupStep step = timelineEvent.getStartupStep();
+            byId.put(step.getId(), timelineEvent);
+            if (step.getParentId() != null) {
+                childNanos.merge(step.getParentId(), timelineEvent.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        StringBuilder report = new StringBuilder("startup timing (ready in ")
+                .append(millis(event.getTimeTaken())).append(" ms)");
+
+        // 최상위 단계와 그 바로 아래 단계 (빈 생성은 아래에서 따로 집계)
+        for (StartupTimeline.TimelineEvent timelineEvent : events) {
+            StartupStep step = timelineEvent.getStartupStep();
+            if (BEAN_INSTANTIATE.equals(step.getName())) {
+                continue;
+            }
+            if (step.getParentId() == null) {
+                report.append("\n  ").append(step.getName()).append(": ")
+                        .append(millis(timelineEvent.getDuration())).append(" ms");
+            } else {
+                StartupTimeline.TimelineEvent parent = byId.get(step.getParentId());
+                if (parent != null && parent.getStartupStep().getParentId() == null) {
+                    report.append("\n    ").append(step.getName()).append(": ")
+                            .append(millis(timelineEvent.getDuration())).append(" ms");
+                }
+            }
+        }
+
+        // 자기 시간이 긴 빈
+        report.append("\n  slowest beans (self time):");
+        events.stream()
+                .filter(timelineEvent -> BEAN_INSTANTIATE.equals(timelineEvent.getStartupStep().getName()))
+                .sorted(Comparator.comparingLong((StartupTimeline.TimelineEvent timelineEvent) ->
+                        selfNanos(timelineEvent, childNanos)).reversed())
+                .limit(topBeans)
+                .forEach(timelineEvent -> report.append("\n    ").append(beanName(timelineEvent)).append(": ")
+                        .append(selfNanos(timelineEvent, childNanos) / 1_000_000).append(" ms"));
+
+        log.info(report.toString());
+    }
+
+    private static long selfNanos(StartupTimeline.TimelineEvent event, Map<Long, Long> childNanos) {
+        return event.getDuration().toNanos() - childNanos.getOrDefault(event.getStartupStep().getId(), 0L);
+    }
+
+    private static String beanName(StartupTimeline.TimelineEvent event) {
+        for (StartupStep.Tag tag : event.getStartupStep().getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static long millis(Duration duration) {
+        return duration == null ? -1 : duration.toMillis();
+    }
+}
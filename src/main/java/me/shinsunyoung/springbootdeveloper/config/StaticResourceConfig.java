@@ -0,0 +1,42 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 리소스(js, css, images) 제공 설정 클래스
+ *
+ * - 파일명에 콘텐츠 해시가 붙은 URL로 제공 (/js/article.js -> /js/article-{hash}.js)
+ *   해시는 빌드 시 만든 static/asset-manifest.properties를 사용 (AssetManifest, ManifestVersionStrategy)
+ * - 빌드 시 미리 압축해 둔 .br/.gz 파일을 Accept-Encoding에 맞춰 그대로 전송 (요청마다 압축하지 않음)
+ * - 내용이 바뀌면 URL이 바뀌므로 1년 동안 재검증 없이 캐시 (immutable)
+ * 템플릿의 @{/js/...} 링크는 ResourceUrlEncodingFilter(spring.web.resources.chain.enabled)가 해시 URL로 바꿈
+ */
+@RequiredArgsConstructor // final 필드를 받는 생성자 자동 생성
+@Configuration // Spring 설정 클래스임을 나타냄
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String[] ASSET_DIRECTORIES = {"js", "css", "images"}; // 핑거프린트를 적용할 디렉터리
+
+    private final AssetManifest assetManifest; // 정적 리소스 콘텐츠 해시 목록
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : ASSET_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .resourceChain(true) // 해석 결과를 캐시하여 해시/압축 파일 탐색을 한 번만 수행
+                    .addResolver(new EncodedResourceResolver()) // 미리 압축된 .br/.gz 파일 사용
+                    .addResolver(new VersionResourceResolver()
+                            .addVersionStrategy(new ManifestVersionStrategy(assetManifest), "/**"));
+        }
+    }
+}
@@ -2,8 +2,10 @@ package me.shinsunyoung.springbootdeveloper.config;
 
 import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.service.UserDetailService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -11,11 +13,21 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
+import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toStaticResources;
 
 /**
  * Spring Security의 보안 설정을 담당하는 클래스.
@@ -28,9 +40,16 @@ public class WebSecurityConfig {
 
     private final UserDetailService userService; // 사용자 정보를 제공하는 서비스
 
+    @Value("${blog.security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds; // 해시 대기열이 가득 찼을 때 클라이언트에게 알려줄 재시도 대기 시간(초)
+
+    @Value("${management.server.port:-1}")
+    private int managementPort; // 상태 확인/지표 엔드포인트 전용 포트 (내부망에서만 접근 가능)
+
     /**
      * 정적 리소스 및 H2 콘솔에 대한 보안 예외 처리 설정.
      * 해당 요청은 Spring Security의 보안 필터를 거치지 않도록 설정함.
+     * (정적 리소스의 실제 URL은 /static/** 가 아니라 /js/**, /css/** 등이므로 공통 위치로 지정)
      *
      * @return WebSecurityCustomizer 객체
      */
@@ -38,7 +57,38 @@ public class WebSecurityConfig {
     public WebSecurityCustomizer configure() {
         return web -> web.ignoring()
                 .requestMatchers(toH2Console()) // H2 콘솔 접근 허용
-                .requestMatchers(new AntPathRequestMatcher("/static/**")); // 정적 리소스 접근 허용
+                .requestMatchers(toStaticResources().atCommonLocations()); // 정적 리소스(/js/**, /css/**, /images/** 등) 접근 허용
+    }
+
+    /**
+     * /api/** 요청에 적용되는 SecurityFilterChain.
+     * Authorization: Bearer 액세스 토큰으로 인증하며, 세션을 새로 만들지 않음 (NEVER).
+     * 토큰이 없으면 이미 있는 폼 로그인 세션을 사용하므로 게시글 화면의 스크립트는 그대로 동작함.
+     *
+     * @param http HttpSecurity 객체
+     * @param accessTokenCodec 액세스 토큰 검증기
+     * @return 설정이 적용된 SecurityFilterChain 객체
+     * @throws Exception 설정 과정에서 발생할 수 있는 예외
+     */
+    @Bean
+    @Order(1) // 아래 기본 체인보다 먼저 /api/** 요청을 검사
+    public SecurityFilterChain apiFilterChain(HttpSecurity http, AccessTokenCodec accessTokenCodec) throws Exception {
+
+        return http
+                .securityMatcher(new AntPathRequestMatcher("/api/**")) // API 요청에만 적용
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(new AntPathRequestMatcher("/api/token")).permitAll() // 토큰 발급은 인증 없이 허용
+                        .anyRequest().authenticated()
+                )
+                .addFilterBefore(new AccessTokenAuthenticationFilter(accessTokenCodec),
+                        UsernamePasswordAuthenticationFilter.class) // Bearer 토큰 인증
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.NEVER)) // API 요청으로는 세션을 만들지 않음
+                .requestCache(cache -> cache.disable()) // 로그인 후 돌아갈 요청을 세션에 저장하지 않음
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))) // 리다이렉트 대신 401
+                .csrf(AbstractHttpConfigurer::disable) // CSRF 보호 기능 비활성화
+                .build();
     }
 
     /**
@@ -56,13 +106,16 @@ public class WebSecurityConfig {
                         .requestMatchers(
                                 new AntPathRequestMatcher("/login"), // 로그인 페이지 접근 허용
                                 new AntPathRequestMatcher("/signup"), // 회원가입 페이지 접근 허용
-                                new AntPathRequestMatcher("/user") // 사용자 정보 접근 허용
+                                new AntPathRequestMatcher("/user"), // 사용자 정보 접근 허용
+                                new AntPathRequestMatcher("/actuator/health"), // 상태 확인 허용
+                                onManagementPort(new AntPathRequestMatcher("/actuator/prometheus")) // 내부 포트의 지표 수집만 허용
                         ).permitAll() // 위 URL에 대한 인증 없이 접근 허용
                         .anyRequest().authenticated() // 위의 URL을 제외한 모든 요청은 인증 필요
                 )
                 .formLogin(formLogin -> formLogin
                         .loginPage("/login") // 커스텀 로그인 페이지 설정
                         .defaultSuccessUrl("/articles") // 로그인 성공 후 이동할 페이지 설정
+                        .failureHandler(loginFailureHandler()) // 해시 대기열 포화 시 503 응답
                 )
                 .logout(logout -> logout
                         .logoutSuccessUrl("/login") // 로그아웃 성공 후 이동할 페이지 설정
@@ -73,34 +126,74 @@ public class WebSecurityConfig {
 
     }
 
+    /**
+     * 관리 전용 포트(management.server.port)로 들어온 요청에만 일치하는 매처를 만드는 메서드.
+     * 관리 포트를 서비스 포트와 같게 설정하더라도 지표 엔드포인트가 인증 없이 외부에 열리지 않게 함.
+     *
+     * @param matcher 경로 매처
+     * @return 관리 포트로 들어온 요청이면서 경로가 일치할 때만 일치하는 매처
+     */
+    private RequestMatcher onManagementPort(RequestMatcher matcher) {
+        return new AndRequestMatcher(matcher, request -> managementPort > 0 && request.getLocalPort() == managementPort);
+    }
+
     /**
      * AuthenticationManager 설정 메서드.
      * 사용자 인증을 담당하는 AuthenticationManager를 생성함.
      *
+     * 로그인 성공 시 저장된 해시의 비용이 현재 설정보다 낮으면 새 비용으로 다시 해시하여 저장함.
+     *
      * @param http HttpSecurity 객체
-     * @param bCryptPasswordEncoder 비밀번호 암호화 객체
+     * @param passwordEncoder 비밀번호 암호화 객체
      * @param userDetailService 사용자 정보 서비스
      * @return AuthenticationManager 객체
      * @throws Exception 설정 과정에서 발생할 수 있는 예외
      */
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http, BCryptPasswordEncoder bCryptPasswordEncoder,
+    public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder,
                                                        UserDetailService userDetailService) throws Exception {
 
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService); // 사용자 정보 서비스 설정
-        authProvider.setPasswordEncoder(bCryptPasswordEncoder); // 비밀번호 암호화 설정
+        authProvider.setPasswordEncoder(passwordEncoder); // 비밀번호 암호화 설정
+        authProvider.setUserDetailsPasswordService(userService); // 낮은 비용의 해시를 로그인 시 갱신
         return new ProviderManager(authProvider); // 인증 공급자를 기반으로 AuthenticationManager 생성
     }
 
     /**
-     * 비밀번호를 암호화하는 BCryptPasswordEncoder 빈 등록.
+     * 로그인 실패 처리기.
+     * 해시 대기열이 가득 차서 실패한 경우 503과 Retry-After를 돌려주고, 그 외에는 로그인 페이지로 이동함.
+     *
+     * @return AuthenticationFailureHandler 객체
+     */
+    private AuthenticationFailureHandler loginFailureHandler() {
+        AuthenticationFailureHandler defaultHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+
+        return (request, response, exception) -> {
+            if (exception instanceof PasswordEncoderBusyException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            defaultHandler.onAuthenticationFailure(request, response, exception);
+        };
+    }
+
+    /**
+     * 비밀번호를 암호화하는 PasswordEncoder 빈 등록.
+     * BCrypt 계산은 크기가 제한된 전용 스레드 풀에서만 실행됨.
      *
-     * @return BCryptPasswordEncoder 객체
+     * @param strength      BCrypt 비용 (1 증가할 때마다 계산 시간 2배)
+     * @param threads       해시 계산 스레드 수 (0이면 CPU 코어 수의 절반)
+     * @param queueCapacity 해시 대기열 크기
+     * @return BoundedPasswordEncoder 객체
      */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${blog.security.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${blog.security.password.threads:0}") int threads,
+                                                  @Value("${blog.security.password.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity);
     }
 
 }
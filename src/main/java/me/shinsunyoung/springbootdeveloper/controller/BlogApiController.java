@@ -1,56 +1,217 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleVersion;
 import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleIngestResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticlePage;
 import me.shinsunyoung.springbootdeveloper.dto.ArticleResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleSearchResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleTrendingResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleViewCountResponse;
+import me.shinsunyoung.springbootdeveloper.dto.InvalidCursorException;
 import me.shinsunyoung.springbootdeveloper.dto.UpdateArticleRequest;
+import me.shinsunyoung.springbootdeveloper.service.ArticleChangeFeed;
+import me.shinsunyoung.springbootdeveloper.service.ArticleChangeFeedBusyException;
+import me.shinsunyoung.springbootdeveloper.service.ArticleExporter;
+import me.shinsunyoung.springbootdeveloper.service.ArticleIngestQueue;
+import me.shinsunyoung.springbootdeveloper.service.ArticleIngestQueueFullException;
+import me.shinsunyoung.springbootdeveloper.service.ArticleTrendingTracker;
 import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 블로그 API 컨트롤러
  * 클라이언트의 요청을 받아 게시글을 저장하는 역할 수행
  */
-@RequiredArgsConstructor // final 필드를 포함한 생성자를 자동 생성 (의존성 주입을 위해 사용)
 @RestController // REST API 컨트롤러로 지정
 public class BlogApiController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // 다음 페이지 커서를 담는 응답 헤더
+
+    public static final String PREFER_ASYNC = "respond-async"; // 비동기 저장을 요청하는 Prefer 헤더 값 (RFC 7240)
+
+    private static final String INGEST_STATUS_PATH = "/api/articles/ingest/"; // 비동기 저장 상태 조회 경로
+
     private final BlogService blogService; // 블로그 서비스 (비즈니스 로직 처리)
 
+    private final ArticleExporter articleExporter; // 게시글 전체 내보내기 (스트리밍 출력)
+
+    private final ArticleIngestQueue ingestQueue; // 게시글 비동기 저장 대기열
+
+    private final ArticleChangeFeed changeFeed; // 게시글 변경 이벤트 피드 (SSE)
+
+    private final boolean asyncByDefault; // Prefer 헤더가 없어도 비동기로 저장할지 여부
+
+    private final long ingestRetryAfterSeconds; // 대기열이 가득 찼을 때 Retry-After 값(초)
+
+    public BlogApiController(BlogService blogService, ArticleExporter articleExporter,
+                             ArticleIngestQueue ingestQueue, ArticleChangeFeed changeFeed,
+                             @Value("${blog.ingest.async-by-default:false}") boolean asyncByDefault,
+                             @Value("${blog.ingest.retry-after-seconds:1}") long ingestRetryAfterSeconds) {
+        this.blogService = blogService;
+        this.articleExporter = articleExporter;
+        this.ingestQueue = ingestQueue;
+        this.changeFeed = changeFeed;
+        this.asyncByDefault = asyncByDefault;
+        this.ingestRetryAfterSeconds = ingestRetryAfterSeconds;
+    }
+
 
     /**
-     * 모든 게시글을 조회하는 API 엔드포인트
+     * 게시글 목록을 커서 기반으로 한 페이지씩 조회하는 API 엔드포인트
+     * 다음 페이지가 있으면 X-Next-Cursor 응답 헤더에 불투명 커서를 담아 반환함
+     * 목록 전체 버전으로 만든 ETag가 If-None-Match와 같으면 목록을 조회하지 않고 304를 반환함
      *
-     * @return 저장된 모든 게시글을 ArticleResponse DTO 형태로 반환 (HTTP 200 OK 상태)
+     * @param cursor     이전 응답의 X-Next-Cursor 값 (첫 페이지는 생략)
+     * @param size       페이지 크기 (기본 20, 최대 100)
+     * @param webRequest 조건부 요청 헤더 확인용 요청 객체
+     * @return 게시글 요약 목록을 ArticleListResponse DTO 형태로 반환 (HTTP 200 OK 상태, 변경이 없으면 304)
      */
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
+    public ResponseEntity<List<ArticleListResponse>> findAllArticles(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+
+        // 목록 버전만 가볍게 조회하여 변경이 없으면 304 Not Modified로 바로 응답
+        String etag = ConditionalRequests.listEtag(blogService.findListVersion(), cursor + "|" + size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        // 서비스 계층에서 모든 게시글을 조회하고, ArticleResponse DTO 리스트로 변환
-        List<ArticleResponse> articles = blogService.findAll()
+        // 서비스 계층에서 한 페이지를 조회하고, ArticleListResponse DTO 리스트로 변환
+        ArticlePage page = blogService.findPage(cursor, size);
+        List<ArticleListResponse> articles = page.getArticles()
                 .stream()
-                .map(ArticleResponse::new) // Article 엔티티를 ArticleResponse DTO로 변환
+                .map(ArticleListResponse::new) // 요약 프로젝션을 ArticleListResponse DTO로 변환
                 .toList(); // 변환된 결과를 리스트로 저장
 
-        // HTTP 200 OK 상태와 함께 게시글 목록 반환
-        return ResponseEntity.ok().body(articles);
+        // HTTP 200 OK 상태와 함께 게시글 목록 반환 (다음 페이지가 있으면 커서 헤더 추가)
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(ConditionalRequests.REVALIDATE)
+                .eTag(etag);
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(articles);
+    }
+
+
+
+    /**
+     * 제목과 내용으로 게시글을 검색하는 API 엔드포인트
+     * 인메모리 역색인을 사용하므로 테이블 전체를 조회하지 않음
+     *
+     * @param query 검색어 (한글은 2글자 단위로 매칭됨)
+     * @param size  최대 결과 수 (기본 20, 최대 100)
+     * @return 관련도 순으로 정렬된 검색 결과 목록 (HTTP 200 OK 상태)
+     */
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<List<ArticleSearchResponse>> searchArticles(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
+
+        return ResponseEntity.ok().body(blogService.search(query, size));
+    }
+
+    /**
+     * 최근 많이 읽힌 게시글 순위를 반환하는 API 엔드포인트
+     * 주기적으로 미리 계산된 순위를 반환하므로 DB를 조회하지 않음
+     *
+     * @param window 집계 기간 (hour 또는 day, 기본값 hour)
+     * @param size   최대 결과 수 (기본 10, 최대 100)
+     * @return 추정 조회수가 많은 순으로 정렬된 게시글 목록 (HTTP 200 OK 상태, 지원하지 않는 기간이면 400)
+     */
+    @GetMapping("/api/articles/trending")
+    public ResponseEntity<List<ArticleTrendingResponse>> findTrendingArticles(
+            @RequestParam(name = "window", defaultValue = "hour") ArticleTrendingTracker.TrendingWindow window,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok().body(blogService.findTrending(window, size));
     }
 
+    /**
+     * 게시글 추가/수정/삭제 이벤트를 SSE로 받아보는 API 엔드포인트 (목록을 주기적으로 다시 조회하지 않아도 됨)
+     * 이벤트 이름은 created/updated/deleted이고 data는 {"type", "articleId", "changedAt"} JSON임
+     * 재연결 시 Last-Event-ID 이후 이벤트부터 이어서 받고, 놓친 이벤트가 보관 범위를 벗어났으면
+     * "reset" 이벤트를 받으므로 이때는 목록을 다시 조회해야 함
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (EventSource가 재연결 시 자동으로 보냄)
+     * @return 이벤트 스트림
+     * @throws ArticleChangeFeedBusyException 구독자 수가 최대치에 도달한 경우 (503으로 응답)
+     */
+    @GetMapping(path = "/api/articles/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
 
+    /**
+     * 모든 게시글을 NDJSON 또는 CSV로 스트리밍 내보내는 API 엔드포인트
+     * DB 커서에서 읽은 행을 바로 응답 본문에 기록하므로 테이블 크기와 관계없이 메모리 사용량이 일정함
+     *
+     * @param format   출력 형식 (ndjson 또는 csv, 기본값 ndjson)
+     * @param response 게시글을 기록할 HTTP 응답 객체
+     * @throws IOException 응답 기록 중 오류가 발생할 경우
+     * @throws IllegalArgumentException 지원하지 않는 형식일 경우 예외 발생
+     */
+    @GetMapping("/api/articles/export")
+    public void exportArticles(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+
+        response.setCharacterEncoding("UTF-8");
+        switch (format) {
+            case "ndjson" -> {
+                response.setContentType("application/x-ndjson");
+                articleExporter.writeNdjson(response.getOutputStream());
+            }
+            case "csv" -> {
+                response.setContentType("text/csv");
+                response.setHeader("Content-Disposition", "attachment; filename=\"articles.csv\"");
+                articleExporter.writeCsv(response.getOutputStream());
+            }
+            default -> throw new IllegalArgumentException("unsupported format: " + format);
+        }
+    }
 
     /**
      * 게시글 추가 요청을 처리하는 API 엔드포인트
+     * "Prefer: respond-async" 헤더가 있거나 blog.ingest.async-by-default가 true이면
+     * 저장하지 않고 대기열에 넣은 뒤 202와 상태 조회 URL(Location)로 바로 응답함 (대기열에서 묶어서 저장됨)
      *
      * @param request 클라이언트가 전송한 게시글 데이터 (JSON 요청 본문)
-     * @return 저장된 Article 객체를 포함한 ResponseEntity (HTTP 201 Created 상태 반환)
+     * @param prefer  Prefer 요청 헤더 (선택)
+     * @return 저장된 Article 객체 (HTTP 201 Created) 또는 접수 상태 (HTTP 202 Accepted)
+     * @throws ArticleIngestQueueFullException 비동기 저장 대기열이 가득 찬 경우 (503으로 응답)
      */
     @PostMapping("/api/articles") // HTTP POST 요청을 처리하는 엔드포인트
-    public ResponseEntity<Article> addArticle(@RequestBody AddArticleRequest request) {
+    public ResponseEntity<?> addArticle(@RequestBody AddArticleRequest request,
+                                        @RequestHeader(name = "Prefer", required = false) String prefer) {
+        if (asyncByDefault || (prefer != null && prefer.contains(PREFER_ASYNC))) {
+            String ticket = ingestQueue.submit(request);
+            String statusUrl = INGEST_STATUS_PATH + ticket;
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new ArticleIngestResponse(ticket, ingestQueue.status(ticket), statusUrl));
+        }
+
         // 서비스 계층을 호출하여 게시글 저장
         Article savedArticle = blogService.save(request);
 
@@ -58,20 +219,145 @@ public class BlogApiController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedArticle);
     }
 
+    /**
+     * 비동기로 접수한 게시글 저장 요청의 처리 상태를 반환하는 API 엔드포인트
+     *
+     * @param ticket 접수 번호 (202 응답의 Location에 포함됨)
+     * @return 처리 상태 (저장되었으면 게시글 ID 포함)
+     * @throws IllegalArgumentException 알 수 없거나 보관 시간이 지난 접수 번호일 경우 예외 발생
+     */
+    @GetMapping(INGEST_STATUS_PATH + "{ticket}")
+    public ResponseEntity<ArticleIngestResponse> findIngestStatus(@PathVariable("ticket") String ticket) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new ArticleIngestResponse(ticket, ingestQueue.status(ticket), INGEST_STATUS_PATH + ticket));
+    }
+
+    /**
+     * 비동기 저장 대기열이 가득 차 요청을 받지 못한 경우 503으로 응답하는 메서드
+     *
+     * @param e 대기열 포화 예외
+     * @return Retry-After 헤더가 포함된 503 응답
+     */
+    @ExceptionHandler(ArticleIngestQueueFullException.class)
+    public ResponseEntity<Void> ingestQueueFull(ArticleIngestQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ingestRetryAfterSeconds))
+                .build();
+    }
+
+    /**
+     * 페이지 커서를 해석하지 못한 경우 400으로 응답하는 메서드
+     *
+     * @param e 잘못된 커서 예외
+     * @return 400 응답
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> invalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * 요청 파라미터를 변환하지 못한 경우(지원하지 않는 집계 기간, 숫자가 아닌 크기 등) 400으로 응답하는 메서드
+     * (오류 페이지로 다시 보내지 않고 바로 응답하므로 /error 요청이 보안 필터를 다시 거치지 않음)
+     *
+     * @param e 파라미터 변환 예외
+     * @return 400 응답
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Void> invalidParameter(MethodArgumentTypeMismatchException e) {
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * 변경 피드 구독자 수가 최대치라 구독을 받지 못한 경우 503으로 응답하는 메서드
+     *
+     * @param e 구독자 수 초과 예외
+     * @return Retry-After 헤더가 포함된 503 응답
+     */
+    @ExceptionHandler(ArticleChangeFeedBusyException.class)
+    public ResponseEntity<Void> changeFeedBusy(ArticleChangeFeedBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30") // 연결이 오래 유지되므로 잠시 뒤에 다시 시도
+                .build();
+    }
+
+    /**
+     * 여러 게시글을 한 번에 추가하는 API 엔드포인트
+     *
+     * @param requests 추가할 게시글 목록 (JSON 배열)
+     * @return 저장된 게시글 ID 목록 (HTTP 201 Created 상태)
+     */
+    @PostMapping("/api/articles/batch")
+    public ResponseEntity<List<Long>> addArticles(@RequestBody List<AddArticleRequest> requests) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(blogService.saveAll(requests));
+    }
+
+    /**
+     * 여러 게시글을 한 번에 수정하는 API 엔드포인트
+     *
+     * @param requests 게시글 ID를 키로 하는 수정 요청 (예: {"1": {"title": "...", "content": "..."}})
+     * @return 수정된 게시글 수 (HTTP 200 OK 상태)
+     */
+    @PutMapping("/api/articles/batch")
+    public ResponseEntity<Integer> updateArticles(@RequestBody Map<Long, UpdateArticleRequest> requests) {
+        return ResponseEntity.ok().body(blogService.updateAll(requests));
+    }
+
+    /**
+     * 여러 게시글을 한 번에 삭제하는 API 엔드포인트
+     *
+     * @param ids 삭제할 게시글 ID 목록 (JSON 배열)
+     * @return 실제로 삭제된 게시글 수 (HTTP 200 OK 상태)
+     */
+    @DeleteMapping("/api/articles/batch")
+    public ResponseEntity<Integer> deleteArticles(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok().body(blogService.deleteAll(ids));
+    }
+
+    /**
+     * 게시글의 현재 조회수를 반환하는 API 엔드포인트
+     * 조회수는 자주 바뀌므로 게시글 본문(ETag로 캐시됨)과 분리하여 항상 새로 조회함
+     *
+     * @param id 게시글 ID
+     * @return 게시글 ID와 조회수 (DB 반영값 + 반영 대기 중인 증가분)
+     */
+    @GetMapping("/api/articles/{id}/views")
+    public ResponseEntity<ArticleViewCountResponse> findViewCount(@PathVariable long id) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new ArticleViewCountResponse(id, blogService.findViewCount(id)));
+    }
+
     /**
      * 특정 ID를 가진 게시글을 조회하는 API 엔드포인트
+     * 수정일로 만든 ETag / Last-Modified가 요청 헤더와 일치하면 본문 없이 304를 반환함
      *
-     * @param id 조회할 게시글의 ID (URL 경로 변수)
-     * @return 조회된 게시글을 ArticleResponse DTO 형태로 반환 (HTTP 200 OK 상태)
+     * @param id         조회할 게시글의 ID (URL 경로 변수)
+     * @param webRequest 조건부 요청 헤더 확인용 요청 객체
+     * @return 조회된 게시글을 ArticleResponse DTO 형태로 반환 (HTTP 200 OK 상태, 변경이 없으면 304)
      */
     @GetMapping("/api/articles/{id}") // 특정 ID의 게시글을 조회하는 GET 요청 엔드포인트
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id) {
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id, WebRequest webRequest) {
+
+        // 게시글 전체가 아닌 수정일만 조회하여 변경이 없으면 304 Not Modified로 바로 응답
+        ArticleVersion version = blogService.findVersion(id);
+        blogService.countView(id, version.getTitle()); // 304 응답도 조회수와 인기 순위에 셈 (메모리에서만 증가)
+        LocalDateTime updatedAt = version.getUpdatedAt();
+        if (webRequest.checkNotModified(ConditionalRequests.etag("json", id, updatedAt),
+                ConditionalRequests.lastModified(updatedAt))) {
+            return null;
+        }
 
         // 서비스 계층에서 ID를 기준으로 게시글 조회
-        Article article = blogService.findById(id);
+        ArticleSnapshot article = blogService.findById(id);
 
         // 조회된 게시글을 ArticleResponse DTO로 변환하여 HTTP 200 OK 응답으로 반환
-        return ResponseEntity.ok().body(new ArticleResponse(article));
+        return ResponseEntity.ok()
+                .cacheControl(ConditionalRequests.REVALIDATE)
+                .eTag(ConditionalRequests.etag("json", id, article.getUpdatedAt()))
+                .lastModified(ConditionalRequests.lastModified(article.getUpdatedAt()))
+                .body(new ArticleResponse(article));
     }
 
     /**
@@ -1,15 +1,26 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.config.AssetManifest;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleVersion;
 import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticlePage;
 import me.shinsunyoung.springbootdeveloper.dto.ArticleViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.InvalidCursorException;
+import me.shinsunyoung.springbootdeveloper.service.ArticleFragmentCache;
 import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,27 +30,63 @@ public class BlogViewController {
 
     private final BlogService blogService;
 
+    private final ArticleFragmentCache fragmentCache; // 게시글 카드/본문 HTML 조각 캐시
+
+    private final AssetManifest assetManifest; // 정적 리소스 버전 (ETag 계산용)
+
     @GetMapping("/articles") // "/articles" 경로로 GET 요청이 들어오면 실행
-    public String getArticles(Model model) {
-        // blogService의 findAll() 메서드를 호출하여 모든 Article 엔티티를 가져온 후
-        // 각 Article 객체를 ArticleListViewResponse DTO로 변환하여 리스트로 저장
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse::new) // Article 엔티티를 DTO로 변환
+    public String getArticles(@RequestParam(required = false) String cursor, Model model,
+                              HttpServletRequest request, WebRequest webRequest, HttpServletResponse response) {
+        // 목록 버전만 가볍게 조회하여 게시글과 정적 리소스가 그대로면 템플릿을 렌더링하지 않고 304 Not Modified로 응답
+        // (카드 링크가 컨텍스트 경로를 포함하므로 ETag에도 포함)
+        String etag = ConditionalRequests.htmlListEtag(blogService.findListVersion(), assetManifest.getVersion(),
+                cursor + "|" + request.getContextPath());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ConditionalRequests.REVALIDATE.getHeaderValue());
+
+        // blogService의 findPage() 메서드를 호출하여 커서 이후의 한 페이지를 가져온 후
+        // 각 요약을 ArticleListViewResponse DTO로 변환하여 리스트로 저장
+        ArticlePage page = blogService.findPage(cursor, BlogService.DEFAULT_PAGE_SIZE);
+        List<String> cards = page.getArticles().stream()
+                .map(ArticleListViewResponse::new) // 요약 프로젝션을 DTO로 변환
+                .map(item -> fragmentCache.renderCard(item, request.getContextPath())) // (ID, 수정일) 기준으로 캐시된 카드 HTML 사용
                 .toList(); // 변환된 리스트를 저장
 
-        // 변환된 게시글 리스트를 모델에 추가하여 뷰에서 사용할 수 있도록 설정
-        model.addAttribute("articles", articles);
+        // 카드 HTML 리스트와 다음 페이지 커서를 모델에 추가하여 뷰에서 사용할 수 있도록 설정
+        model.addAttribute("cards", cards);
+        model.addAttribute("nextCursor", page.getNextCursor());
 
         return "articleList"; // "articleList"라는 이름의 Thymeleaf 템플릿을 반환
     }
 
     @GetMapping("/articles/{id}") // "/articles/{id}" 경로로 GET 요청이 들어오면 실행
-    public String getArticle(@PathVariable("id") Long id, Model model) {
+    public String getArticle(@PathVariable("id") Long id, Model model,
+                             WebRequest webRequest, HttpServletResponse response) {
+        // 수정일과 렌더러 버전만 조회하여 변경이 없으면 템플릿을 렌더링하지 않고 304 Not Modified로 응답
+        ArticleVersion version = blogService.findVersion(id);
+        blogService.countView(id, version.getTitle()); // 304 응답도 조회수와 인기 순위에 셈 (메모리에서만 증가)
+        // (재렌더링은 수정일을 바꾸지 않으므로 If-Modified-Since가 아닌 ETag로만 비교)
+        if (webRequest.checkNotModified(ConditionalRequests.htmlEtag(id, version, assetManifest.getVersion()))) {
+            return null;
+        }
+
         // 요청된 ID에 해당하는 게시글을 데이터베이스에서 조회
-        Article article = blogService.findById(id);
+        ArticleSnapshot article = blogService.findById(id);
+
+        // 실제로 렌더링하는 버전 기준으로 검증자 헤더를 설정
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ConditionalRequests.REVALIDATE.getHeaderValue());
+        response.setHeader(HttpHeaders.ETAG, ConditionalRequests.htmlEtag(id, article, assetManifest.getVersion()));
+        long lastModified = ConditionalRequests.lastModified(article.getUpdatedAt());
+        if (lastModified >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
 
         // 조회된 게시글을 ArticleViewResponse DTO로 변환하여 모델에 추가
-        model.addAttribute("article", new ArticleViewResponse(article));
+        ArticleViewResponse view = new ArticleViewResponse(article);
+        model.addAttribute("article", view);
+        model.addAttribute("articleBody", fragmentCache.renderBody(view)); // (ID, 수정일, 렌더러 버전) 기준으로 캐시된 본문 HTML
 
         return "article"; // "article"이라는 이름의 Thymeleaf 템플릿을 반환
     }
@@ -53,13 +100,24 @@ public class BlogViewController {
         }
         // ID가 전달된 경우 (기존 게시글 수정)
         else {
-            Article article = blogService.findById(id); // ID를 이용해 기존 게시글 조회
+            ArticleSnapshot article = blogService.findById(id); // ID를 이용해 기존 게시글 조회
             model.addAttribute("article", new ArticleViewResponse(article)); // 조회된 데이터를 DTO로 변환하여 모델에 추가
         }
 
         return "newArticle"; // "newArticle"이라는 이름의 Thymeleaf 템플릿을 반환
     }
 
+    /**
+     * 목록 화면의 페이지 커서를 해석하지 못한 경우 400으로 응답하는 메서드
+     *
+     * @param e 잘못된 커서 예외
+     * @return 400 응답
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> invalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().build();
+    }
+
 
 
 }
@@ -0,0 +1,99 @@
+package me.shinsunyoung.springbootdeveloper.controller;
+
+import me.shinsunyoung.springbootdeveloper.domain.ArticleVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 처리에 쓰는 검증자 계산 유틸리티
+ * 게시글의 updatedAt을 버전으로 사용함 (HTML은 렌더러 버전과 정적 리소스 버전도 함께 사용)
+ */
+final class ConditionalRequests {
+
+    /**
+     * 매 요청마다 서버에 재검증하도록 하는 캐시 정책
+     * (Spring Security의 기본 no-store 헤더 대신 사용되어 브라우저가 ETag로 재검증할 수 있음)
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 게시글 한 건에 대한 강한 ETag를 만드는 메서드
+     *
+     * @param representation 표현 구분자 (JSON과 HTML이 서로 다른 ETag를 갖도록 함)
+     * @param id             게시글 ID
+     * @param updatedAt      게시글 수정일
+     * @return 따옴표로 감싼 ETag 값
+     */
+    static String etag(String representation, long id, LocalDateTime updatedAt) {
+        return "\"" + representation + "-" + id + "-" + version(updatedAt) + "\"";
+    }
+
+    /**
+     * 게시글 상세 화면(HTML)에 대한 강한 ETag를 만드는 메서드
+     * 수정일을 바꾸지 않는 재렌더링(ArticleRerenderJob) 뒤에도 새 HTML을 받도록 렌더러 버전을 포함하고,
+     * 배포로 스크립트 해시가 바뀐 뒤 예전 해시 URL을 가리키는 HTML을 재사용하지 않도록 자산 버전을 포함함
+     *
+     * @param id           게시글 ID
+     * @param version      게시글의 수정일과 렌더러 버전
+     * @param assetVersion 정적 리소스 버전 (AssetManifest)
+     * @return 따옴표로 감싼 ETag 값
+     */
+    static String htmlEtag(long id, ArticleVersion version, String assetVersion) {
+        return "\"html-" + id + "-" + version(version.getUpdatedAt()) + "-r" + version.getRenderVersion()
+                + "-" + assetVersion + "\"";
+    }
+
+    /**
+     * 게시글 목록(JSON)에 대한 약한 ETag를 만드는 메서드
+     *
+     * @param listVersion 게시글 테이블 버전 문자열
+     * @param query       페이지를 구분하는 요청 파라미터 (커서, 크기 등)
+     * @return W/ 접두사가 붙은 ETag 값
+     */
+    static String listEtag(String listVersion, String query) {
+        return weakEtag("list", listVersion + "|" + query);
+    }
+
+    /**
+     * 게시글 목록 화면(HTML)에 대한 약한 ETag를 만드는 메서드
+     * 화면이 해시가 붙은 스크립트 URL을 담고 있으므로, 배포로 스크립트가 바뀌면 함께 바뀌도록 자산 버전을 포함함
+     *
+     * @param listVersion  게시글 테이블 버전 문자열
+     * @param assetVersion 정적 리소스 버전 (AssetManifest)
+     * @param query        페이지를 구분하는 요청 값 (커서, 컨텍스트 경로 등)
+     * @return W/ 접두사가 붙은 ETag 값
+     */
+    static String htmlListEtag(String listVersion, String assetVersion, String query) {
+        return weakEtag("html-list", listVersion + "|" + assetVersion + "|" + query);
+    }
+
+    /**
+     * Last-Modified 헤더에 사용할 epoch 밀리초를 반환하는 메서드
+     *
+     * @param updatedAt 게시글 수정일
+     * @return epoch 밀리초 (수정일이 없으면 -1)
+     */
+    static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String weakEtag(String representation, String key) {
+        return "W/\"" + representation + "-" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static String version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return "0";
+        }
+        long micros = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() * 1_000
+                + updatedAt.getNano() / 1_000 % 1_000;
+        return Long.toHexString(micros);
+    }
+}
@@ -0,0 +1,69 @@
+package me.shinsunyoung.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.AccessTokenCodec;
+import me.shinsunyoung.springbootdeveloper.config.PasswordEncoderBusyException;
+import me.shinsunyoung.springbootdeveloper.dto.TokenRequest;
+import me.shinsunyoung.springbootdeveloper.dto.TokenResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * API 클라이언트용 액세스 토큰을 발급하는 컨트롤러
+ * 이메일/비밀번호 검증은 폼 로그인과 같은 AuthenticationManager(UserDetailService + BCrypt)를 사용함
+ */
+@RequiredArgsConstructor // final 필드를 받는 생성자 자동 생성
+@RestController // HTTP Response Body에 객체 데이터를 JSON 형식으로 반환하는 컨트롤러
+public class TokenApiController {
+
+    private final AuthenticationManager authenticationManager; // 이메일/비밀번호 인증
+    private final AccessTokenCodec accessTokenCodec; // 토큰 발급기
+
+    @Value("${blog.security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds; // 해시 대기열이 가득 찼을 때 알려줄 재시도 대기 시간(초)
+
+    /**
+     * 이메일/비밀번호를 확인하고 액세스 토큰을 발급하는 메서드
+     * 세션을 만들지 않으므로 토큰을 가진 클라이언트는 어느 노드로든 요청할 수 있음
+     *
+     * @param request 이메일/비밀번호
+     * @return 액세스 토큰과 유효 시간
+     */
+    @PostMapping("/api/token")
+    public ResponseEntity<TokenResponse> issueToken(@RequestBody TokenRequest request) {
+        UserDetails user = (UserDetails) authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.getEmail(), request.getPassword()))
+                .getPrincipal();
+
+        return ResponseEntity.ok(new TokenResponse(accessTokenCodec.issue(user),
+                accessTokenCodec.getTtl().toSeconds()));
+    }
+
+    /**
+     * 비밀번호 해시 대기열이 가득 찬 경우 503으로 응답하는 메서드
+     */
+    @ExceptionHandler(PasswordEncoderBusyException.class)
+    public ResponseEntity<Void> passwordEncoderBusy(PasswordEncoderBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+
+    /**
+     * 이메일 또는 비밀번호가 틀린 경우 401로 응답하는 메서드
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Void> authenticationFailed(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
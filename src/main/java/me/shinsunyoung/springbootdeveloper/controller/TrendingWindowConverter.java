@@ -0,0 +1,21 @@
+package me.shinsunyoung.springbootdeveloper.controller;
+
+import me.shinsunyoung.springbootdeveloper.service.ArticleTrendingTracker.TrendingWindow;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 요청 파라미터(hour, day)를 집계 기간으로 바꾸는 변환기 (대소문자 무시)
+ * 스프링 부트가 Converter 빈을 MVC 변환 서비스에 자동으로 등록하며,
+ * 지원하지 않는 값이면 MethodArgumentTypeMismatchException이 되어 400으로 응답됨
+ */
+@Component // 스프링 빈으로 등록
+public class TrendingWindowConverter implements Converter<String, TrendingWindow> {
+
+    @Override
+    public TrendingWindow convert(String source) {
+        return TrendingWindow.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
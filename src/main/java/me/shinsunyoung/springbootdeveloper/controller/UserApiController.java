@@ -3,11 +3,17 @@ package me.shinsunyoung.springbootdeveloper.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.PasswordEncoderBusyException;
 import me.shinsunyoung.springbootdeveloper.dto.AddUserRequest;
 import me.shinsunyoung.springbootdeveloper.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
@@ -21,6 +27,9 @@ public class UserApiController {
 
     private final UserService userService; // 사용자 서비스 (회원 가입 처리)
 
+    @Value("${blog.security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds; // 해시 대기열이 가득 찼을 때 알려줄 재시도 대기 시간(초)
+
     /**
      * 회원 가입 요청을 처리하는 메서드.
      *
@@ -52,5 +61,16 @@ public class UserApiController {
         return "redirect:/login"; // 로그아웃 후 로그인 페이지로 이동
     }
 
-
+    /**
+     * 비밀번호 해시 대기열이 가득 차 회원 가입을 처리하지 못한 경우 503으로 응답하는 메서드.
+     *
+     * @param e 해시 대기열 포화 예외
+     * @return Retry-After 헤더가 포함된 503 응답
+     */
+    @ExceptionHandler(PasswordEncoderBusyException.class)
+    public ResponseEntity<Void> passwordEncoderBusy(PasswordEncoderBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
 }
@@ -17,21 +17,50 @@ import java.time.LocalDateTime;
  */
 @EntityListeners(AuditingEntityListener.class) // 엔티티의 생성 및 수정 시간을 자동으로 관리하는 리스너 설정
 @Entity // JPA 엔티티임을 선언
+@Table(name = "article", indexes = {
+        // 키셋 페이지네이션((created_at, id) 내림차순 탐색)을 위한 복합 인덱스
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id"),
+        // 목록 ETag 계산 시 MAX(updated_at)를 인덱스만으로 구하기 위한 인덱스
+        @Index(name = "idx_article_updated_at", columnList = "updated_at")
+})
 @Getter // 필드에 대한 Getter 메서드 자동 생성
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 보호 수준으로 설정하여 객체 생성 제한
 public class Article {
 
     @Id // 기본 키(Primary Key) 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 자동 생성 전략 설정 (IDENTITY: DB가 자동 생성)
+    // 시퀀스에서 50개씩 미리 할당받아 ID를 생성 (IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     @Column(name = "id", updatable = false) // 컬럼명 지정 및 수정 불가능하도록 설정
     private Long id;
 
     @Column(name = "title", nullable = false) // 컬럼명 지정 및 NULL 허용 안 함
     private String title;
 
+    // 본문은 길이 제한이 없도록 LOB으로 저장 (기본 varchar(255)로는 짧은 글도 저장에 실패함)
+    @Lob
     @Column(name = "content", nullable = false) // 컬럼명 지정 및 NULL 허용 안 함
     private String content;
 
+    // 목록 화면용 요약 (내용 앞부분), 목록 조회 시 content 대신 이 컬럼만 읽음
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    public static final int EXCERPT_LENGTH = 200; // 요약 최대 길이
+
+    // 내용(Markdown)을 렌더링하고 정제한 HTML, 저장/수정 시 한 번만 만들고 조회 시에는 그대로 사용 (MarkdownRenderer)
+    @Lob
+    @Column(name = "content_html")
+    private String contentHtml;
+
+    // contentHtml을 만든 렌더러 버전 (MarkdownRenderer.VERSION보다 낮으면 ArticleRerenderJob이 다시 렌더링함)
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;
+
+    // 조회수, ArticleViewCounter가 모아서 UPDATE로 직접 더하므로 엔티티 수정(더티 체킹) 시에는 덮어쓰지 않음
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
     /**
      * Article 객체를 생성하는 생성자
      *
@@ -42,6 +71,7 @@ public class Article {
     public Article(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     @CreatedDate // 엔티티가 생성될 때 자동으로 현재 시간이 저장됨
@@ -61,6 +91,43 @@ public class Article {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content); // 내용이 바뀌면 요약도 함께 갱신
+    }
+
+    /**
+     * 내용을 렌더링한 HTML을 저장하는 메서드
+     *
+     * @param contentHtml   렌더링/정제된 HTML
+     * @param renderVersion HTML을 만든 렌더러 버전
+     */
+    public void applyRendered(String contentHtml, int renderVersion) {
+        this.contentHtml = contentHtml;
+        this.renderVersion = renderVersion;
+    }
+
+    /**
+     * 내용에서 목록용 요약을 만드는 메서드
+     * 연속된 공백/줄바꿈은 공백 하나로 합치고 EXCERPT_LENGTH 글자까지만 남김
+     *
+     * @param content 게시글 내용
+     * @return 요약 문자열 (내용이 null이면 null)
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.length() <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 보정
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end);
     }
 
 }
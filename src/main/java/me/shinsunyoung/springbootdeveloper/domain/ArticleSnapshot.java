@@ -0,0 +1,43 @@
+package me.shinsunyoung.springbootdeveloper.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article 엔티티의 읽기 전용 스냅샷 클래스
+ * 영속성 컨텍스트와 분리된 불변 객체라서 여러 요청이 캐시를 통해 안전하게 공유할 수 있음
+ */
+@Getter // 필드에 대한 Getter 메서드 자동 생성
+public final class ArticleSnapshot implements ArticleVersion {
+
+    private final Long id; // 게시글 ID
+    private final String title; // 게시글 제목
+    private final String content; // 게시글 내용
+    private final String contentHtml; // 렌더링된 게시글 내용 (아직 렌더링되지 않았으면 null)
+    private final int renderVersion; // contentHtml을 만든 렌더러 버전
+    private final LocalDateTime createdAt; // 게시글 생성일
+    private final LocalDateTime updatedAt; // 게시글 수정일
+
+    private ArticleSnapshot(Long id, String title, String content, String contentHtml, int renderVersion,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.contentHtml = contentHtml;
+        this.renderVersion = renderVersion;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 엔티티의 현재 상태로 스냅샷을 생성하는 메서드
+     *
+     * @param article 게시글 엔티티
+     * @return 엔티티의 값을 복사한 불변 스냅샷
+     */
+    public static ArticleSnapshot from(Article article) {
+        return new ArticleSnapshot(article.getId(), article.getTitle(), article.getContent(), article.getContentHtml(),
+                article.getRenderVersion(), article.getCreatedAt(), article.getUpdatedAt());
+    }
+}
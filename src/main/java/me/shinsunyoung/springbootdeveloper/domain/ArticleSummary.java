@@ -0,0 +1,20 @@
+package me.shinsunyoung.springbootdeveloper.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 프로젝션 (인터페이스 기반 프로젝션)
+ * 목록 조회 시 content 대신 저장된 요약(excerpt)만 읽어오기 위해 사용함
+ */
+public interface ArticleSummary {
+
+    Long getId(); // 게시글 ID
+
+    String getTitle(); // 게시글 제목
+
+    String getExcerpt(); // 게시글 요약 (내용 앞부분)
+
+    LocalDateTime getCreatedAt(); // 게시글 생성일
+
+    LocalDateTime getUpdatedAt(); // 게시글 수정일
+}
@@ -0,0 +1,17 @@
+package me.shinsunyoung.springbootdeveloper.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 버전 정보 (인터페이스 기반 프로젝션, 조건부 요청의 검증자 계산용)
+ * 내용이 바뀌면 수정일이, 렌더러가 바뀌어 HTML만 다시 만들어지면 렌더러 버전이 바뀜
+ * 304로 응답하는 읽기도 인기 순위에 반영할 수 있도록 제목을 함께 조회함
+ */
+public interface ArticleVersion {
+
+    String getTitle(); // 게시글 제목 (인기 순위 기록용)
+
+    LocalDateTime getUpdatedAt(); // 게시글 수정일
+
+    int getRenderVersion(); // contentHtml을 만든 렌더러 버전
+}
@@ -15,7 +15,9 @@ import java.util.List;
  * 사용자 정보를 저장하는 엔티티 클래스.
  * Spring Security의 UserDetails를 구현하여 인증과 권한 관리를 지원함.
  */
-@Table(name = "users") // 데이터베이스의 users 테이블과 매핑
+@Table(name = "users", indexes = {
+        @Index(name = "uk_users_email", columnList = "email", unique = true) // 로그인 시 이메일 조회를 인덱스로 처리하고 중복 가입을 막음
+}) // 데이터베이스의 users 테이블과 매핑
 @NoArgsConstructor // 기본 생성자 자동 생성 (Lombok)
 @Getter // 클래스의 필드에 대한 Getter 메서드 자동 생성 (Lombok)
 @Entity // JPA 엔티티로 선언
@@ -44,6 +46,15 @@ public class User implements UserDetails {
         this.password = password;
     }
 
+    /**
+     * 비밀번호를 변경하는 메서드
+     *
+     * @param password 암호화된 새 비밀번호
+     */
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
     /**
      * 사용자의 권한을 반환하는 메서드 (Spring Security)
      *
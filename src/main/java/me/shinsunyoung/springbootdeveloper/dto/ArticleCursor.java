@@ -0,0 +1,67 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션에 사용하는 커서 값 객체
+ * 마지막으로 내려준 게시글의 (created_at, id)를 담고, 클라이언트에는 불투명한 문자열로 전달됨
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleCursor {
+
+    private static final String SEPARATOR = "|"; // 생성일과 ID를 구분하는 문자
+
+    private final LocalDateTime createdAt; // 마지막 게시글의 생성일
+    private final Long id; // 마지막 게시글의 ID
+
+    private ArticleCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 페이지의 마지막 게시글로부터 커서를 생성하는 메서드
+     *
+     * @param article 페이지의 마지막 게시글 요약
+     * @return 해당 게시글 다음부터 조회하기 위한 커서
+     */
+    public static ArticleCursor of(ArticleSummary article) {
+        return new ArticleCursor(article.getCreatedAt(), article.getId());
+    }
+
+    /**
+     * 클라이언트가 전달한 불투명 커서 문자열을 해석하는 메서드
+     *
+     * @param value Base64URL로 인코딩된 커서 문자열
+     * @return 해석된 커서 객체
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 예외 발생
+     */
+    public static ArticleCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(SEPARATOR);
+
+            return new ArticleCursor(LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("invalid cursor: " + value);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 문자열로 인코딩하는 메서드
+     *
+     * @return Base64URL로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.service.ArticleIngestQueue;
+
+/**
+ * 게시글 비동기 저장 요청의 처리 상태 응답 DTO
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleIngestResponse {
+
+    private final String ticket; // 접수 번호
+    private final ArticleIngestQueue.State state; // 처리 상태 (PENDING, SAVED, FAILED)
+    private final Long articleId; // 저장된 게시글 ID (저장 전이나 실패 시 null)
+    private final String error; // 실패 사유 (실패가 아니면 null)
+    private final String statusUrl; // 처리 상태를 조회할 URL
+
+    public ArticleIngestResponse(String ticket, ArticleIngestQueue.IngestStatus status, String statusUrl) {
+        this.ticket = ticket;
+        this.state = status.getState();
+        this.articleId = status.getArticleId();
+        this.error = status.getError();
+        this.statusUrl = statusUrl;
+    }
+}
@@ -0,0 +1,33 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답 DTO
+ * 목록에서는 전체 내용 대신 요약(excerpt)만 반환하며, 전체 내용은 단건 조회 API로 가져옴
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleListResponse {
+
+    private final Long id; // 게시글 ID
+    private final String title; // 게시글 제목
+    private final String excerpt; // 게시글 요약 (내용 앞부분)
+    private final LocalDateTime createdAt; // 게시글 생성일
+    private final LocalDateTime updatedAt; // 게시글 수정일
+
+    /**
+     * 게시글 요약 프로젝션을 기반으로 응답 DTO를 생성하는 생성자
+     *
+     * @param article 게시글 요약
+     */
+    public ArticleListResponse(ArticleSummary article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.excerpt = article.getExcerpt();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+    }
+}
@@ -1,19 +1,23 @@
 package me.shinsunyoung.springbootdeveloper.dto;
 
 import lombok.Getter;
-import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+
+import java.time.LocalDateTime;
 
 @Getter // 클래스의 필드에 대한 Getter 메서드를 자동 생성
 public class ArticleListViewResponse {
 
     private final Long id; // 게시글 ID
     private final String title; // 게시글 제목
-    private final String content; // 게시글 내용
+    private final String excerpt; // 게시글 요약 (내용 앞부분)
+    private final LocalDateTime updatedAt; // 게시글 수정일 (렌더링 캐시 키로 사용)
 
-    // Article 엔티티 객체를 받아 DTO로 변환하는 생성자
-    public ArticleListViewResponse(Article article) {
-        this.id = article.getId(); // 엔티티에서 ID 값을 가져와 설정
-        this.title = article.getTitle(); // 엔티티에서 제목 값을 가져와 설정
-        this.content = article.getContent(); // 엔티티에서 내용 값을 가져와 설정
+    // 게시글 요약 프로젝션을 받아 DTO로 변환하는 생성자
+    public ArticleListViewResponse(ArticleSummary article) {
+        this.id = article.getId(); // 요약에서 ID 값을 가져와 설정
+        this.title = article.getTitle(); // 요약에서 제목 값을 가져와 설정
+        this.excerpt = article.getExcerpt(); // 요약 값을 가져와 설정
+        this.updatedAt = article.getUpdatedAt(); // 요약에서 수정일 값을 가져와 설정
     }
 }
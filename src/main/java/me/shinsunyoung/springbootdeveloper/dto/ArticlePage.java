@@ -0,0 +1,31 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션으로 조회한 게시글 한 페이지를 담는 클래스
+ * 다음 페이지가 없으면 nextCursor는 null
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticlePage {
+
+    private final List<ArticleSummary> articles; // 현재 페이지의 게시글 요약 목록
+    private final String nextCursor; // 다음 페이지를 조회하기 위한 불투명 커서
+
+    public ArticlePage(List<ArticleSummary> articles, String nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 다음 페이지가 존재하는지 여부를 반환
+     *
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
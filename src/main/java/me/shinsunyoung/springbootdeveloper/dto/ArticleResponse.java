@@ -2,6 +2,7 @@ package me.shinsunyoung.springbootdeveloper.dto;
 
 import lombok.Getter;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
 
 /**
  * 게시글 응답 DTO (Data Transfer Object)
@@ -24,4 +25,14 @@ public class ArticleResponse {
         this.title = article.getTitle();
         this.content = article.getContent();
     }
+
+    /**
+     * 캐시된 게시글 스냅샷을 기반으로 응답 DTO를 생성하는 생성자
+     *
+     * @param article 게시글 스냅샷
+     */
+    public ArticleResponse(ArticleSnapshot article) {
+        this.title = article.getTitle();
+        this.content = article.getContent();
+    }
 }
@@ -0,0 +1,22 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+
+/**
+ * 게시글 검색 결과 응답 DTO
+ * 관련도 점수가 높은 순서로 반환됨
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleSearchResponse {
+
+    private final Long id; // 게시글 ID
+    private final String title; // 게시글 제목
+    private final double score; // BM25 관련도 점수
+
+    public ArticleSearchResponse(ArticleSnapshot article, double score) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.score = score;
+    }
+}
@@ -0,0 +1,22 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.service.ArticleTrendingTracker;
+
+/**
+ * 인기 게시글 순위 응답 DTO
+ * 추정 조회수가 많은 순서로 반환됨
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleTrendingResponse {
+
+    private final Long id; // 게시글 ID
+    private final String title; // 게시글 제목
+    private final long views; // 집계 기간 내 추정 조회수
+
+    public ArticleTrendingResponse(ArticleTrendingTracker.Entry entry) {
+        this.id = entry.getId();
+        this.title = entry.getTitle();
+        this.views = entry.getViews();
+    }
+}
@@ -0,0 +1,18 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시글 조회수 응답 DTO
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class ArticleViewCountResponse {
+
+    private final Long id; // 게시글 ID
+    private final long viewCount; // 조회수 (DB 반영값 + 반영 대기 중인 증가분)
+
+    public ArticleViewCountResponse(Long id, long viewCount) {
+        this.id = id;
+        this.viewCount = viewCount;
+    }
+}
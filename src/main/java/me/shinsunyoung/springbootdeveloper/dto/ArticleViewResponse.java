@@ -3,6 +3,7 @@ package me.shinsunyoung.springbootdeveloper.dto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
 
 import java.time.LocalDateTime;
 
@@ -17,7 +18,10 @@ public class ArticleViewResponse {
     private Long id; // 게시글 ID
     private String title; // 게시글 제목
     private String content; // 게시글 내용
+    private String contentHtml; // 렌더링된 게시글 내용 (아직 렌더링되지 않았으면 null)
+    private int renderVersion; // contentHtml을 만든 렌더러 버전 (렌더링 캐시 키로 사용)
     private LocalDateTime createdAt; // 게시글 생성일
+    private LocalDateTime updatedAt; // 게시글 수정일 (렌더링 캐시 키로 사용)
 
     /**
      * Article 엔티티를 받아 DTO로 변환하는 생성자
@@ -28,6 +32,24 @@ public class ArticleViewResponse {
         this.id = article.getId(); // 엔티티의 ID 값을 DTO에 저장
         this.title = article.getTitle(); // 엔티티의 제목 값을 DTO에 저장
         this.content = article.getContent(); // 엔티티의 내용 값을 DTO에 저장
+        this.contentHtml = article.getContentHtml(); // 렌더링된 내용을 DTO에 저장
+        this.renderVersion = article.getRenderVersion(); // 렌더러 버전을 DTO에 저장
         this.createdAt = article.getCreatedAt(); // 엔티티의 생성일 값을 DTO에 저장
+        this.updatedAt = article.getUpdatedAt(); // 엔티티의 수정일 값을 DTO에 저장
+    }
+
+    /**
+     * 캐시된 게시글 스냅샷을 받아 DTO로 변환하는 생성자
+     *
+     * @param article 게시글 스냅샷
+     */
+    public ArticleViewResponse(ArticleSnapshot article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.contentHtml = article.getContentHtml();
+        this.renderVersion = article.getRenderVersion();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
     }
 }
@@ -0,0 +1,12 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+/**
+ * 클라이언트가 보낸 페이지 커서를 해석하지 못했을 때 발생하는 예외.
+ * 요청 값 오류이므로 목록 API와 목록 화면에서는 400으로 응답함.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 액세스 토큰 발급 요청 DTO
+ * 폼 로그인과 같은 이메일/비밀번호로 인증함
+ */
+@Getter // Lombok을 사용하여 필드의 Getter 메서드 자동 생성
+@Setter // Lombok을 사용하여 필드의 Setter 메서드 자동 생성
+public class TokenRequest {
+
+    private String email; // 사용자 이메일
+
+    private String password; // 사용자 비밀번호 (평문)
+}
@@ -0,0 +1,20 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+/**
+ * 액세스 토큰 발급 응답 DTO
+ * 클라이언트는 /api/** 요청에 "Authorization: Bearer {accessToken}" 헤더를 붙여 보냄
+ */
+@Getter // 필드의 Getter 메서드를 자동 생성
+public class TokenResponse {
+
+    private final String accessToken; // 서명된 액세스 토큰
+    private final String tokenType = "Bearer"; // 토큰 종류
+    private final long expiresIn; // 유효 시간(초)
+
+    public TokenResponse(String accessToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+    }
+}
@@ -1,12 +1,183 @@
 package me.shinsunyoung.springbootdeveloper.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * BlogRepository 인터페이스
  * Article 엔티티를 관리하는 JPA Repository
+ * 직접 선언한 조회 메서드도 읽기 전용 트랜잭션으로 실행되어 복제본(replica)으로 라우팅됨
  */
+@Transactional(readOnly = true)
 public interface BlogRepository extends JpaRepository<Article, Long> {
     // JpaRepository를 상속받아 기본적인 CRUD 기능을 자동으로 제공함
+
+    /**
+     * 최신 게시글부터 첫 페이지의 요약을 조회하는 메서드 (키셋 페이지네이션의 시작점)
+     * 엔티티가 아닌 필요한 컬럼만 조회하므로 content를 읽지 않고 영속성 컨텍스트에도 올라가지 않음
+     *
+     * @param pageable 조회할 최대 게시글 수 (첫 페이지 크기만 사용)
+     * @return (created_at, id) 내림차순으로 정렬된 게시글 요약 목록
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.excerpt AS excerpt, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM Article a " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArticleSummary> findFirstSummaryPage(Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 요약을 조회하는 메서드
+     * OFFSET 없이 (created_at, id) 인덱스를 따라 탐색하므로 페이지 깊이와 관계없이 비용이 일정함
+     *
+     * @param createdAt 커서의 생성일
+     * @param id        커서의 게시글 ID
+     * @param pageable  조회할 최대 게시글 수 (첫 페이지 크기만 사용)
+     * @return 커서보다 오래된 게시글 요약 목록 ((created_at, id) 내림차순)
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.excerpt AS excerpt, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM Article a " +
+            "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArticleSummary> findNextSummaryPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Pageable pageable);
+
+    /**
+     * 모든 게시글을 DB 커서로 한 건씩 읽어오는 메서드 (대량 내보내기용)
+     * 결과 전체를 List로 만들지 않고 JDBC fetch size 단위로 가져오므로 메모리 사용량이 일정함
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 Stream을 닫아야 함
+     *
+     * @return ID 오름차순으로 정렬된 게시글 Stream
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"), // 한 번에 가져올 행 수 (JDBC fetch size)
+            @QueryHint(name = HINT_READ_ONLY, value = "true"), // 변경 감지용 스냅샷을 만들지 않음
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM Article a ORDER BY a.id")
+    Stream<Article> streamAllByOrderById();
+
+    /**
+     * 렌더러 버전이 낮은 게시글을 ID 순서로 조회하는 메서드 (다시 렌더링할 대상을 배치 단위로 찾을 때 사용)
+     * 버전이 "다른" 글이 아니라 "낮은" 글만 찾으므로, 롤링 배포 중에 이전 버전 노드가 최신 HTML을 되돌리지 않음
+     *
+     * @param version  현재 렌더러 버전
+     * @param afterId  이전 배치의 마지막 게시글 ID (이 ID보다 큰 게시글만 조회)
+     * @param pageable 조회할 최대 게시글 수 (첫 페이지 크기만 사용)
+     * @return ID 오름차순으로 정렬된 게시글의 ID/내용/수정일 (엔티티가 아니므로 변경 감지 UPDATE가 생기지 않음)
+     */
+    @Query("SELECT a.id AS id, a.content AS content, a.updatedAt AS updatedAt " +
+            "FROM Article a WHERE a.renderVersion < :version AND a.id > :afterId ORDER BY a.id")
+    List<OutdatedRender> findOutdatedRenders(@Param("version") int version, @Param("afterId") long afterId,
+                                             Pageable pageable);
+
+    /**
+     * 다시 렌더링할 게시글 (인터페이스 기반 프로젝션)
+     */
+    interface OutdatedRender {
+        Long getId(); // 게시글 ID
+        String getContent(); // 렌더링할 내용 (Markdown)
+        LocalDateTime getUpdatedAt(); // 조회 시점의 수정일 (그 사이 수정되었는지 확인용)
+    }
+
+    /**
+     * 다시 렌더링한 HTML만 저장하는 메서드
+     * 제목/내용/수정일은 건드리지 않고, 조회한 뒤 글이 수정되었거나(수정일이 다름) 다른 노드가 이미 렌더링한 경우에는
+     * 아무것도 바꾸지 않으므로 사용자의 수정 내용을 되돌리지 않음
+     *
+     * @param id          게시글 ID
+     * @param contentHtml 렌더링/정제된 HTML
+     * @param version     HTML을 만든 렌더러 버전
+     * @param updatedAt   렌더링할 내용을 조회했을 때의 수정일
+     * @return 갱신된 행 수 (0이면 그 사이 수정/삭제된 글)
+     */
+    @Transactional // 쓰기 트랜잭션 (주 DB에서 실행)
+    @Modifying
+    @Query("UPDATE Article a SET a.contentHtml = :contentHtml, a.renderVersion = :version " +
+            "WHERE a.id = :id AND a.renderVersion < :version AND a.updatedAt = :updatedAt")
+    int updateRendered(@Param("id") Long id, @Param("contentHtml") String contentHtml,
+                       @Param("version") int version, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 게시글의 제목, 수정일, 렌더러 버전만 조회하는 메서드 (조건부 요청의 버전 확인용)
+     * 본문을 읽지 않고 세 컬럼만 가져옴
+     *
+     * @param id 게시글 ID
+     * @return 게시글의 버전 정보 (게시글이 없으면 빈 Optional)
+     */
+    @Query("SELECT a.title AS title, a.updatedAt AS updatedAt, a.renderVersion AS renderVersion " +
+            "FROM Article a WHERE a.id = :id")
+    Optional<ArticleVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 게시글의 DB에 반영된 조회수만 조회하는 메서드
+     *
+     * @param id 게시글 ID
+     * @return 반영된 조회수 (게시글이 없으면 빈 Optional)
+     */
+    @Query("SELECT a.viewCount FROM Article a WHERE a.id = :id")
+    Optional<Long> findViewCountById(@Param("id") Long id);
+
+    /**
+     * 게시글 테이블 전체의 버전 정보를 조회하는 메서드 (목록 응답의 ETag 계산용)
+     * 게시글이 추가, 수정, 삭제되면 세 값 중 하나 이상이 바뀜
+     *
+     * @return 게시글 수, 최대 ID, 가장 최근 수정일
+     */
+    @Query("SELECT COUNT(a) AS count, MAX(a.id) AS maxId, MAX(a.updatedAt) AS lastUpdatedAt FROM Article a")
+    TableVersion findTableVersion();
+
+    /**
+     * 게시글 테이블 버전 조회 결과 (인터페이스 기반 프로젝션)
+     */
+    interface TableVersion {
+        long getCount(); // 게시글 수
+        Long getMaxId(); // 가장 큰 게시글 ID (게시글이 없으면 null)
+        LocalDateTime getLastUpdatedAt(); // 가장 최근 수정일 (게시글이 없으면 null)
+    }
+
+    /**
+     * 주어진 ID 중 실제로 있는 게시글의 ID를 조회하고 그 행을 잠그는 메서드 (일괄 삭제 전 확인용)
+     * 같은 글을 동시에 지우는 다른 트랜잭션은 이 트랜잭션이 끝날 때까지 기다리므로 삭제 이벤트가 한 번만 나감
+     *
+     * @param ids 확인할 게시글 ID 목록 (중복 가능)
+     * @return 있는 게시글의 ID 목록 (중복 없음)
+     */
+    @Transactional // 쓰기 트랜잭션 (주 DB에서 행을 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM Article a WHERE a.id IN :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 게시글을 하나의 DELETE 문으로 삭제하는 메서드
+     * deleteById와 달리 엔티티를 먼저 조회하지 않음 (트랜잭션 안에서 호출해야 함)
+     *
+     * @param ids 삭제할 게시글 ID 목록
+     * @return 실제로 삭제된 게시글 수
+     */
+    @Transactional // 쓰기 트랜잭션 (주 DB에서 실행)
+    @Modifying(clearAutomatically = true) // 삭제 후 영속성 컨텍스트를 비워 삭제된 엔티티가 남지 않도록 함
+    @Query("DELETE FROM Article a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,13 +2,16 @@ package me.shinsunyoung.springbootdeveloper.repository;
 
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * User 엔티티의 데이터베이스 접근을 담당하는 JPA Repository 인터페이스.
  * Spring Data JPA를 사용하여 기본적인 CRUD 기능을 자동으로 제공함.
+ * 직접 선언한 조회 메서드도 읽기 전용 트랜잭션으로 실행되어 복제본(replica)으로 라우팅됨.
  */
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
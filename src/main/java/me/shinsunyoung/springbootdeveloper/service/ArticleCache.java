@@ -0,0 +1,140 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 게시글 스냅샷을 보관하는 프로세스 내 캐시
+ * Caffeine(W-TinyLFU)을 사용해 최대 크기를 넘으면 접근 빈도가 낮은 항목부터 제거함
+ * blog.cache.article.enabled=false 이면 캐시 없이 항상 로더를 호출함 (부하 테스트 A/B 비교용)
+ *
+ * 캐시 미스 시 DB 로드는 캐시 내부 잠금(synchronized) 밖에서, 요청한 스레드가 직접 실행함
+ * - 잠금 안에서 JDBC 호출로 블로킹하면 가상 스레드 모드에서 캐리어 스레드가 고정(pinning)되기 때문
+ * - 다른 스레드로 넘기면 요청의 스레드 로컬 상태(ReadYourWrites의 주 DB 읽기, RequestStatistics의 SQL 수)가
+ *   사라지기 때문 (쓰기 직후의 캐시 미스가 복제본에서 읽히고, 그 SQL이 요청 통계에서 빠짐)
+ */
+@Component // 스프링 빈으로 등록
+public class ArticleCache implements MeterBinder {
+
+    private final AsyncCache<Long, ArticleSnapshot> cache; // 비활성화된 경우 null
+
+    public ArticleCache(@Value("${blog.cache.article.enabled:true}") boolean enabled,
+                        @Value("${blog.cache.article.max-size:10000}") long maxSize) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize) // 최대 보관 개수
+                        .recordStats() // 적중/실패/제거 횟수 기록
+                        .buildAsync()
+                : null;
+    }
+
+    /**
+     * 캐시에서 게시글을 조회하고, 없으면 로더로 읽어와 저장하는 메서드 (read-through)
+     * 같은 ID에 대한 동시 요청은 한 번만 로드됨 (먼저 자리를 잡은 요청 스레드가 로드하고 나머지는 결과를 기다림)
+     *
+     * @param id     게시글 ID
+     * @param loader 캐시에 없을 때 게시글을 읽어오는 함수
+     * @return 게시글 스냅샷
+     */
+    public ArticleSnapshot get(long id, Function<Long, ArticleSnapshot> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+
+        // 잠금 안에서는 빈 future만 넣고, 이 future를 넣은 스레드가 잠금 밖에서 로드하여 완료시킴
+        CompletableFuture<ArticleSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<ArticleSnapshot> future = cache.get(id, (key, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(id));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e); // 실패한 future는 캐시에서 자동으로 제거됨
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 로더에서 발생한 예외(예: 존재하지 않는 게시글)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시에 이미 있는 게시글만 조회하는 메서드 (없거나 로드 중이면 기다리지 않음)
+     *
+     * @param id 게시글 ID
+     * @return 캐시된 스냅샷, 없으면 null
+     */
+    public ArticleSnapshot getIfPresent(long id) {
+        return cache == null ? null : cache.synchronous().getIfPresent(id);
+    }
+
+    /**
+     * 게시글 스냅샷을 캐시에 저장(갱신)하는 메서드
+     *
+     * @param snapshot 저장할 스냅샷
+     */
+    public void put(ArticleSnapshot snapshot) {
+        if (cache != null) {
+            cache.synchronous().put(snapshot.getId(), snapshot);
+        }
+    }
+
+    /**
+     * 특정 게시글을 캐시에서 제거하는 메서드
+     * 로드 중인 항목도 제거되므로, 로드가 끝나도 오래된 값이 다시 저장되지 않음
+     *
+     * @param id 제거할 게시글 ID
+     */
+    public void evict(long id) {
+        if (cache != null) {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    /**
+     * 캐시 사용 여부를 반환
+     *
+     * @return 캐시가 활성화되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 적중/실패/제거 횟수와 크기를 cache.* 지표로 등록하는 메서드 (name=article)
+     *
+     * @param registry 지표 저장소
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "article");
+        }
+    }
+
+    /**
+     * 적중/실패/제거 횟수 등 캐시 통계를 반환하는 메서드
+     *
+     * @return 캐시 통계 (비활성화된 경우 빈 통계)
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.synchronous().stats();
+    }
+}
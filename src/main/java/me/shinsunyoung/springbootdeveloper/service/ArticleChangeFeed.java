@@ -0,0 +1,311 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 추가/수정/삭제 이벤트를 SSE(Server-Sent Events)로 전달하는 변경 피드
+ * - BlogService가 커밋 후 publish로 이벤트를 넣으면 고정 크기 링 버퍼에 순번과 함께 보관
+ * - 구독자마다 "다음에 보낼 순번"만 기억하고, 전송은 별도 스레드 풀에서 구독자별로 한 번에 하나씩만 실행
+ *   (쓰기 스레드는 링 버퍼에 넣고 전송을 예약만 하므로 느린 구독자 때문에 막히지 않음)
+ * - 재연결 시 Last-Event-ID 다음 이벤트부터 이어서 보냄
+ * - 구독자가 너무 느려 아직 보내지 못한 이벤트가 링 버퍼에서 밀려나면 "reset" 이벤트를 보내고 가장 오래된 이벤트부터 다시 보냄
+ *   (클라이언트는 reset을 받으면 목록을 다시 조회해야 함, 구독자별로 이벤트를 쌓아 두지 않으므로 메모리는 링 버퍼 크기로 고정)
+ * - 읽지 않는 클라이언트에게 쓰는 동안에는 전송 스레드가 막히므로, 소켓 쓰기 제한 시간(server.tomcat.connection-timeout)을
+ *   blog.change-feed.send-timeout과 같게 두어 그 시간이 지나면 쓰기가 실패하고 연결이 닫히게 함
+ *   (스레드 인터럽트로는 Tomcat의 블로킹 쓰기가 풀리지 않음, 끊긴 클라이언트는 Last-Event-ID로 재연결)
+ */
+@Component // 스프링 빈으로 등록
+public class ArticleChangeFeed implements MeterBinder, DisposableBean {
+
+    private static final int SEND_BATCH = 64; // 링 버퍼 잠금 한 번에 꺼내 보낼 최대 이벤트 수
+    private static final String RESET_EVENT = "reset"; // 놓친 이벤트가 있음을 알리는 이벤트 이름
+
+    // 실행마다 다른 값, 이전 실행에서 받은 Last-Event-ID는 순번이 이어지지 않으므로 reset으로 처리
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Change[] ring; // 최근 이벤트 (순번 % 크기 위치에 저장, 잠금: ring)
+    private volatile long head; // 다음에 넣을 이벤트의 순번 (= 지금까지 넣은 이벤트 수)
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet(); // 연결 중인 구독자
+    private final ThreadPoolExecutor sender; // 구독자에게 이벤트를 보내는 스레드 풀
+    private final int maxSubscribers; // 동시에 연결할 수 있는 최대 구독자 수
+    private final long timeoutMillis; // 연결 유지 시간 (지나면 끊고 클라이언트가 Last-Event-ID로 재연결)
+
+    private final LongAdder resets = new LongAdder(); // 구독자가 이벤트를 놓쳐 reset을 보낸 횟수
+    private final LongAdder stalled = new LongAdder(); // 쓰기 제한 시간을 넘겨 끊긴 구독자 수
+
+    public ArticleChangeFeed(@Value("${blog.change-feed.capacity:4096}") int capacity,
+                             @Value("${blog.change-feed.max-subscribers:256}") int maxSubscribers,
+                             @Value("${blog.change-feed.sender-threads:2}") int senderThreads,
+                             @Value("${blog.change-feed.timeout:30m}") Duration timeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ring = new Change[capacity];
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+
+        // 구독자별로 전송 작업이 최대 하나만 예약되므로 대기열 길이는 구독자 수를 넘지 않음
+        AtomicInteger sequence = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "article-changes-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 변경 이벤트를 링 버퍼에 넣고 구독자에게 전송을 예약하는 메서드 (기다리지 않음)
+     *
+     * @param type      변경 종류
+     * @param articleId 게시글 ID
+     */
+    public void publish(Type type, long articleId) {
+        synchronized (ring) {
+            ring[(int) (head % ring.length)] = new Change(head, type, articleId, LocalDateTime.now());
+            head++;
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    /**
+     * 변경 피드를 구독하는 메서드
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (처음 연결이면 null, 이후 이벤트부터 받음)
+     * @return 이벤트를 보낼 SSE 연결
+     * @throws ArticleChangeFeedBusyException 구독자 수가 최대치에 도달한 경우 예외 발생
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ArticleChangeFeedBusyException("too many change feed subscribers");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        synchronized (ring) {
+            long oldest = Math.max(0, head - ring.length);
+            long resumeAfter = parseSequence(lastEventId);
+            if (lastEventId == null || lastEventId.isBlank()) {
+                subscriber.cursor = head; // 지금 이후의 이벤트만
+            } else if (resumeAfter < 0 || resumeAfter + 1 < oldest || resumeAfter >= head) {
+                // 다른 실행의 ID이거나 이미 밀려난 이벤트 이후부터 요청한 경우
+                subscriber.cursor = oldest;
+                subscriber.resetPending = true;
+            } else {
+                subscriber.cursor = resumeAfter + 1;
+            }
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber); // 놓친 이벤트가 있으면 바로 보냄
+        return emitter;
+    }
+
+    /**
+     * 연결 유지를 위해 모든 구독자에게 주석(heartbeat)을 보내는 메서드
+     * 응답이 없는 연결은 이때 쓰기 오류로 정리됨
+     */
+    @Scheduled(fixedDelayString = "${blog.change-feed.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending = true;
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 구독자에게 보낼 이벤트가 있으면 전송 작업을 예약하는 메서드
+     * 이미 전송 중이면 예약하지 않음 (전송 작업이 끝나기 전에 새 이벤트를 확인함)
+     */
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false); // 종료 중
+        }
+    }
+
+    /**
+     * 구독자의 순번부터 최신 이벤트까지 보내는 메서드 (구독자별로 한 스레드에서만 실행됨)
+     */
+    private void send(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            while (true) {
+                List<Change> batch = new ArrayList<>();
+                synchronized (ring) {
+                    long oldest = Math.max(0, head - ring.length);
+                    if (subscriber.cursor < oldest) {
+                        subscriber.cursor = oldest; // 보내지 못한 이벤트가 밀려남
+                        subscriber.resetPending = true;
+                    }
+                    for (long sequence = subscriber.cursor; sequence < head && batch.size() < SEND_BATCH; sequence++) {
+                        batch.add(ring[(int) (sequence % ring.length)]);
+                    }
+                }
+
+                if (subscriber.resetPending) {
+                    subscriber.resetPending = false;
+                    resets.increment();
+                    emitter.send(SseEmitter.event().id(eventId(subscriber.cursor - 1)).name(RESET_EVENT).data(""));
+                }
+                if (subscriber.heartbeatPending) {
+                    subscriber.heartbeatPending = false;
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Change change : batch) {
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(change.sequence))
+                            .name(change.getType().name().toLowerCase(Locale.ROOT))
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.cursor = change.sequence + 1;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결, 또는 쓰기 제한 시간을 넘긴(읽지 않는) 클라이언트
+            if (isWriteTimeout(e)) {
+                stalled.increment();
+            }
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+
+        // 전송 중에 새 이벤트가 들어왔다면 다시 예약
+        if (subscriber.cursor < head || subscriber.heartbeatPending) {
+            schedule(subscriber);
+        }
+    }
+
+    private static boolean isWriteTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * 이벤트 ID에서 순번을 꺼내는 메서드
+     *
+     * @return 순번 (이번 실행의 ID가 아니거나 형식이 올바르지 않으면 -1)
+     */
+    private long parseSequence(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("article.changes.subscribers", subscribers, Set::size)
+                .description("Connected article change feed subscribers")
+                .register(registry);
+        FunctionCounter.builder("article.changes.resets", resets, LongAdder::sum)
+                .description("Reset events sent because a subscriber fell behind the ring buffer")
+                .register(registry);
+        FunctionCounter.builder("article.changes.stalled", stalled, LongAdder::sum)
+                .description("Subscribers disconnected because a write exceeded the socket write timeout")
+                .register(registry);
+    }
+
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * 링 버퍼에 보관하는 변경 이벤트 (불변 객체, 이벤트 data로 JSON 직렬화됨)
+     */
+    @Getter // 필드에 대한 Getter 메서드 자동 생성
+    public static final class Change {
+
+        @JsonIgnore
+        private final long sequence; // 순번 (data가 아니라 이벤트 ID로만 전달)
+        private final Type type; // 변경 종류
+        private final long articleId; // 게시글 ID
+        private final LocalDateTime changedAt; // 변경 시각
+
+        private Change(long sequence, Type type, long articleId, LocalDateTime changedAt) {
+            this.sequence = sequence;
+            this.type = type;
+            this.articleId = articleId;
+            this.changedAt = changedAt;
+        }
+    }
+
+    /**
+     * 연결된 구독자와 전송 위치
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter; // SSE 연결
+        private final AtomicBoolean sending = new AtomicBoolean(); // 전송 작업이 예약/실행 중인지 여부
+        private long cursor; // 다음에 보낼 이벤트 순번 (전송 작업에서만 변경)
+        private volatile boolean resetPending; // reset 이벤트를 보내야 하는지 여부
+        private volatile boolean heartbeatPending; // heartbeat를 보내야 하는지 여부
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
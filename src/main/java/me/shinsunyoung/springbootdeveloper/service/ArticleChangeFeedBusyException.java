@@ -0,0 +1,12 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+/**
+ * 게시글 변경 피드의 구독자 수가 최대치에 도달하여 새 구독을 받지 못했을 때 발생하는 예외.
+ * API에서는 503과 Retry-After로 응답함.
+ */
+public class ArticleChangeFeedBusyException extends RuntimeException {
+
+    public ArticleChangeFeedBusyException(String message) {
+        super(message);
+    }
+}
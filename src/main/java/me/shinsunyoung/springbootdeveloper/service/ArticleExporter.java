@@ -0,0 +1,145 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 전체를 NDJSON 또는 CSV 형식으로 스트리밍 출력하는 클래스
+ * 한 행씩 바로 출력 스트림에 기록하므로 전체 목록을 메모리에 올리지 않음
+ */
+@RequiredArgsConstructor // final 필드가 있는 생성자를 자동으로 생성 (의존성 주입을 위해 사용)
+@Component // 스프링 빈으로 등록
+public class ArticleExporter {
+
+    private static final int FLUSH_INTERVAL = 500; // 몇 행마다 클라이언트로 내보낼지
+
+    private final BlogService blogService; // 게시글을 DB 커서로 읽어오는 서비스
+
+    private final ObjectMapper objectMapper; // JSON 생성기를 만들기 위한 Jackson ObjectMapper
+
+    /**
+     * 게시글을 한 줄에 하나의 JSON 객체로 출력하는 메서드 (NDJSON)
+     *
+     * @param out 응답 출력 스트림
+     * @throws IOException 출력 중 오류가 발생할 경우
+     */
+    public void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.setRootValueSeparator(null); // 루트 값 구분자는 직접 줄바꿈으로 기록
+
+            int[] rows = {0};
+            blogService.exportAll(article -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", article.getId());
+                    generator.writeStringField("title", article.getTitle());
+                    generator.writeStringField("content", article.getContent());
+                    writeTimestampField(generator, "createdAt", article.getCreatedAt());
+                    writeTimestampField(generator, "updatedAt", article.getUpdatedAt());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+
+                    if (++rows[0] % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 게시글을 RFC 4180 형식의 CSV로 출력하는 메서드 (첫 줄은 헤더)
+     *
+     * @param out 응답 출력 스트림
+     * @throws IOException 출력 중 오류가 발생할 경우
+     */
+    public void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,title,content,created_at,updated_at\r\n");
+
+        int[] rows = {0};
+        try {
+            blogService.exportAll(article -> {
+                try {
+                    writer.write(String.valueOf(article.getId()));
+                    writer.write(',');
+                    writeCsvField(writer, article.getTitle());
+                    writer.write(',');
+                    writeCsvField(writer, article.getContent());
+                    writer.write(',');
+                    writeCsvField(writer, format(article.getCreatedAt()));
+                    writer.write(',');
+                    writeCsvField(writer, format(article.getUpdatedAt()));
+                    writer.write("\r\n");
+
+                    if (++rows[0] % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 시각 필드를 ISO-8601 문자열로 기록하는 메서드 (값이 없으면 JSON null)
+     */
+    private static void writeTimestampField(JsonGenerator generator, String name, LocalDateTime value)
+            throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeStringField(name, format(value));
+    }
+
+    /**
+     * 시각을 ISO-8601 문자열로 바꾸는 메서드 (ArticleImporter가 읽는 형식)
+     *
+     * @return 문자열 (값이 없으면 null, CSV에서는 빈 필드)
+     */
+    private static String format(LocalDateTime value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * CSV 필드 하나를 기록하는 메서드
+     * 쉼표, 큰따옴표, 줄바꿈이 포함된 경우 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
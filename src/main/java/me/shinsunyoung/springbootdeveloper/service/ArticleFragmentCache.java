@@ -0,0 +1,109 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleViewResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 게시글 화면 조각(HTML)을 렌더링 결과 그대로 보관하는 캐시
+ * 키에 게시글 ID와 수정일(updatedAt)을 함께 넣으므로 글이 수정되면 자연히 새 키가 되어
+ * 오래된 조각이 제공될 일이 없고, 이전 조각은 크기 제한에 따라 밀려남
+ * (본문 조각은 렌더러 버전도 키에 넣어, 수정일을 바꾸지 않는 재렌더링 후에도 새 HTML을 사용함)
+ * 조각은 요청 밖의 Context로 렌더링하므로 @{...} 링크 표현식을 쓸 수 없어, 링크에 필요한 컨텍스트 경로는 호출자가 넘김
+ */
+@Component // 스프링 빈으로 등록
+public class ArticleFragmentCache implements MeterBinder {
+
+    private static final String CARD_TEMPLATE = "fragments/articleCard"; // 목록 페이지의 게시글 카드
+    private static final String BODY_TEMPLATE = "fragments/articleBody"; // 상세 페이지의 제목/본문 영역
+
+    private final ITemplateEngine templateEngine; // 조각을 렌더링할 Thymeleaf 엔진
+
+    private final Cache<String, String> cache; // 비활성화된 경우 null
+
+    public ArticleFragmentCache(ITemplateEngine templateEngine,
+                                @Value("${blog.cache.fragment.enabled:true}") boolean enabled,
+                                @Value("${blog.cache.fragment.max-size:10000}") long maxSize) {
+        this.templateEngine = templateEngine;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize) // 최대 보관 개수
+                        .recordStats() // 적중/실패/제거 횟수 기록
+                        .build()
+                : null;
+    }
+
+    /**
+     * 목록 페이지에 들어갈 게시글 카드 HTML을 반환하는 메서드
+     *
+     * @param item        게시글 목록 DTO
+     * @param contextPath 애플리케이션 컨텍스트 경로 (예: "" 또는 "/blog", 카드의 상세 링크에 사용)
+     * @return 렌더링된 카드 HTML
+     */
+    public String renderCard(ArticleListViewResponse item, String contextPath) {
+        return get(key("card", item.getId(), item.getUpdatedAt()) + ":" + contextPath,
+                key -> render(CARD_TEMPLATE, Map.of("item", item, "contextPath", contextPath)));
+    }
+
+    /**
+     * 상세 페이지에 들어갈 제목/작성일/본문 HTML을 반환하는 메서드
+     *
+     * @param article 게시글 상세 DTO
+     * @return 렌더링된 본문 HTML
+     */
+    public String renderBody(ArticleViewResponse article) {
+        return get(key("body", article.getId(), article.getUpdatedAt()) + ":r" + article.getRenderVersion(),
+                key -> render(BODY_TEMPLATE, Map.of("article", article)));
+    }
+
+    /**
+     * 적중/실패/제거 횟수와 크기를 cache.* 지표로 등록하는 메서드 (name=article-fragment)
+     *
+     * @param registry 지표 저장소
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "article-fragment");
+        }
+    }
+
+    /**
+     * 적중/실패/제거 횟수 등 캐시 통계를 반환하는 메서드
+     *
+     * @return 캐시 통계 (비활성화된 경우 빈 통계)
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    private String get(String key, Function<String, String> renderer) {
+        if (cache == null) {
+            return renderer.apply(key);
+        }
+        return cache.get(key, renderer);
+    }
+
+    private String render(String template, Map<String, Object> variables) {
+        Context context = new Context(LocaleContextHolder.getLocale(), variables);
+        return templateEngine.process(template, context);
+    }
+
+    private static String key(String type, Long id, LocalDateTime updatedAt) {
+        return type + ":" + id + ":" + updatedAt;
+    }
+}
@@ -0,0 +1,75 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * 시작 시 blog.import.location의 게시글 파일을 가져오는 실행기 (data.sql 시드 대체)
+ * 예: 운영 스냅샷을 테스트 인스턴스에 넣고 종료
+ *   java -jar app.jar --blog.import.location=file:/data/articles.ndjson --blog.import.only-if-empty=false --blog.import.exit=true
+ * 검색 색인(ArticleSearchIndexLoader)은 이 실행기가 끝난 뒤(ApplicationReadyEvent) 만들어지므로 가져온 글도 포함됨
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class ArticleImportRunner implements ApplicationRunner {
+
+    private final ArticleImporter importer; // 게시글 가져오기
+    private final BlogRepository blogRepository; // 테이블이 비었는지 확인
+    private final ResourceLoader resourceLoader; // classpath:/file: 위치 해석
+    private final ConfigurableApplicationContext context; // 가져온 뒤 종료할 때 사용
+    private final String location; // 가져올 파일 위치 (비어 있으면 실행하지 않음)
+    private final String format; // 입력 형식 (비어 있으면 확장자로 판단)
+    private final boolean onlyIfEmpty; // 게시글이 하나도 없을 때만 가져올지 여부 (재시작 시 중복 방지)
+    private final boolean exitAfterImport; // 가져온 뒤 애플리케이션을 종료할지 여부
+
+    public ArticleImportRunner(ArticleImporter importer, BlogRepository blogRepository,
+                               ResourceLoader resourceLoader, ConfigurableApplicationContext context,
+                               @Value("${blog.import.location:}") String location,
+                               @Value("${blog.import.format:}") String format,
+                               @Value("${blog.import.only-if-empty:true}") boolean onlyIfEmpty,
+                               @Value("${blog.import.exit:false}") boolean exitAfterImport) {
+        this.importer = importer;
+        this.blogRepository = blogRepository;
+        this.resourceLoader = resourceLoader;
+        this.context = context;
+        this.location = location;
+        this.format = format;
+        this.onlyIfEmpty = onlyIfEmpty;
+        this.exitAfterImport = exitAfterImport;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (location.isBlank()) {
+            return;
+        }
+        if (onlyIfEmpty && blogRepository.count() > 0) {
+            log.info("article import skipped, table is not empty: {}", location);
+            return;
+        }
+
+        Resource resource = resourceLoader.getResource(location);
+        ArticleImporter.Format inputFormat = format.isBlank()
+                ? ArticleImporter.Format.fromLocation(location)
+                : ArticleImporter.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        log.info("article import started: {} ({})", location, inputFormat);
+        try (InputStream in = resource.getInputStream()) {
+            importer.importArticles(in, inputFormat);
+        }
+
+        if (exitAfterImport) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 대량의 게시글을 NDJSON 또는 CSV에서 읽어 DB에 넣는 가져오기 도구 (ArticleExporter의 출력 형식과 같음)
+ * - 입력을 한 행씩 읽으므로 파일 크기와 관계없이 메모리에는 커밋 단위(commit-size)만큼의 행만 올라감
+ * - JPA를 거치지 않고 JDBC 배치 INSERT(batch-size 행씩)로 넣고, commit-size 행마다 커밋
+ * - ID는 입력의 id를 쓰지 않고 article_seq에서 새로 받음 (Hibernate와 같은 시퀀스를 쓰므로 ID가 겹치지 않음)
+ * - Markdown은 읽는 스레드에서 바로 렌더링/정제하여 content_html과 현재 render_version으로 함께 넣음
+ *   (I/O에 비해 렌더링 비용은 작고, ArticleRerenderJob이 나중에 JPA 속도로 다시 훑지 않아도 됨)
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class ArticleImporter {
+
+    private static final String INSERT_SQL = "INSERT INTO article "
+            + "(id, title, content, excerpt, content_html, view_count, render_version, created_at, updated_at) "
+            + "VALUES (NEXT VALUE FOR article_seq, ?, ?, ?, ?, 0, " + MarkdownRenderer.VERSION + ", ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate; // 배치 INSERT 실행
+    private final TransactionTemplate transactionTemplate; // 커밋 단위마다 트랜잭션을 나눔
+    private final ObjectMapper objectMapper; // NDJSON 파싱
+    private final MarkdownRenderer markdownRenderer; // 내용을 저장 전에 렌더링
+    private final int batchSize; // JDBC 배치 하나에 담을 INSERT 수
+    private final int commitSize; // 한 트랜잭션에 넣을 행 수
+    private final long progressIntervalNanos; // 진행 상황 로그 간격
+
+    public ArticleImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           ObjectMapper objectMapper, MarkdownRenderer markdownRenderer,
+                           @Value("${blog.import.batch-size:1000}") int batchSize,
+                           @Value("${blog.import.commit-size:20000}") int commitSize,
+                           @Value("${blog.import.progress-interval:5s}") Duration progressInterval) {
+        if (batchSize < 1 || commitSize < batchSize) {
+            throw new IllegalArgumentException("invalid batch-size/commit-size: " + batchSize + "/" + commitSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.markdownRenderer = markdownRenderer;
+        this.batchSize = batchSize;
+        this.commitSize = commitSize;
+        this.progressIntervalNanos = progressInterval.toNanos();
+    }
+
+    /**
+     * 입력 스트림의 게시글을 모두 가져오는 메서드
+     * 제목이나 내용이 없는 행은 건너뜀. 중간에 실패하면 이미 커밋된 행은 그대로 남음
+     *
+     * @param in     입력 스트림 (UTF-8, 호출한 쪽에서 닫음)
+     * @param format 입력 형식
+     * @return 가져온 행 수, 건너뛴 행 수, 소요 시간
+     * @throws IOException 입력을 읽는 중 오류가 발생하거나 형식이 올바르지 않을 경우
+     */
+    public Result importArticles(InputStream in, Format format) throws IOException {
+        long started = System.nanoTime();
+        long nextProgress = started + progressIntervalNanos;
+        long imported = 0;
+        long skipped = 0;
+
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        RowSource rows = format == Format.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader, objectMapper);
+
+        List<Object[]> chunk = new ArrayList<>(commitSize);
+        Map<String, String> row;
+        while ((row = rows.next()) != null) {
+            Object[] values = toValues(row);
+            if (values == null) {
+                skipped++;
+                continue;
+            }
+            chunk.add(values);
+
+            if (chunk.size() == commitSize) {
+                insert(chunk);
+                imported += chunk.size();
+                chunk.clear();
+
+                long now = System.nanoTime();
+                if (now >= nextProgress) {
+                    log.info("article import: {} rows ({} rows/s)", imported, rate(imported, now - started));
+                    nextProgress = now + progressIntervalNanos;
+                }
+            }
+        }
+        insert(chunk);
+        imported += chunk.size();
+
+        Result result = new Result(imported, skipped, Duration.ofNanos(System.nanoTime() - started));
+        log.info("article import finished: {} rows, {} skipped in {} ms ({} rows/s)",
+                result.getImported(), result.getSkipped(), result.getElapsed().toMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    /**
+     * 한 커밋 단위의 행을 JDBC 배치로 넣는 메서드
+     */
+    private void insert(List<Object[]> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, chunk, batchSize, (ps, values) -> {
+                    ps.setString(1, (String) values[0]);
+                    ps.setString(2, (String) values[1]);
+                    ps.setString(3, (String) values[2]);
+                    ps.setString(4, (String) values[3]);
+                    ps.setTimestamp(5, (Timestamp) values[4]);
+                    ps.setTimestamp(6, (Timestamp) values[5]);
+                }));
+    }
+
+    /**
+     * 입력 행을 INSERT 파라미터로 바꾸는 메서드
+     *
+     * @return {제목, 내용, 요약, 렌더링된 HTML, 생성일, 수정일} (제목이나 내용이 없으면 null)
+     */
+    private Object[] toValues(Map<String, String> row) {
+        String title = row.get("title");
+        String content = row.get("content");
+        if (title == null || title.isEmpty() || content == null) {
+            return null;
+        }
+
+        Timestamp createdAt = timestamp(row.get("created_at"));
+        Timestamp updatedAt = timestamp(row.get("updated_at"));
+        if (createdAt == null) {
+            createdAt = Timestamp.valueOf(LocalDateTime.now());
+        }
+        return new Object[]{title, content, Article.excerptOf(content), markdownRenderer.render(content), createdAt,
+                updatedAt == null ? createdAt : updatedAt};
+    }
+
+    private static Timestamp timestamp(String value) {
+        if (value == null || value.isEmpty() || "null".equals(value)) { // "null"은 이전 버전의 내보내기 파일 호환
+            return null;
+        }
+        return Timestamp.valueOf(LocalDateTime.parse(value)); // ArticleExporter의 출력 형식 (ISO-8601)
+    }
+
+    private static long rate(long rows, long nanos) {
+        return nanos <= 0 ? rows : rows * 1_000_000_000L / nanos;
+    }
+
+    /**
+     * 입력 형식
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * 파일 이름의 확장자로 형식을 정하는 메서드 (.csv이면 CSV, 그 외에는 NDJSON)
+         *
+         * @param location 파일 위치
+         * @return 입력 형식
+         */
+        public static Format fromLocation(String location) {
+            return location.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    @Getter // 필드에 대한 Getter 메서드 자동 생성
+    public static final class Result {
+
+        private final long imported; // 가져온 행 수
+        private final long skipped; // 건너뛴 행 수
+        private final Duration elapsed; // 소요 시간
+
+        private Result(long imported, long skipped, Duration elapsed) {
+            this.imported = imported;
+            this.skipped = skipped;
+            this.elapsed = elapsed;
+        }
+
+        public long getRowsPerSecond() {
+            return rate(imported, elapsed.toNanos());
+        }
+    }
+
+    /**
+     * 입력에서 행을 하나씩 꺼내는 인터페이스 (키는 title, content, created_at, updated_at)
+     */
+    private interface RowSource {
+        Map<String, String> next() throws IOException; // 더 이상 행이 없으면 null
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나씩 읽는 NDJSON 입력 (필드: title, content, createdAt, updatedAt)
+     */
+    private static final class NdjsonRowSource implements RowSource {
+
+        private final MappingIterator<JsonNode> iterator;
+
+        private NdjsonRowSource(Reader reader, ObjectMapper objectMapper) throws IOException {
+            this.iterator = objectMapper.readerFor(JsonNode.class).readValues(reader);
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+            JsonNode node = iterator.nextValue();
+            Map<String, String> row = new HashMap<>(8);
+            row.put("title", text(node, "title"));
+            row.put("content", text(node, "content"));
+            row.put("created_at", text(node, "createdAt"));
+            row.put("updated_at", text(node, "updatedAt"));
+            return row;
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV 입력 (첫 줄은 헤더, 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈 지원)
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private final Reader reader;
+        private final String[] header;
+
+        private CsvRowSource(Reader reader) throws IOException {
+            this.reader = reader;
+            List<String> columns = readRecord();
+            if (columns == null) {
+                this.header = new String[0];
+            } else {
+                this.header = columns.stream().map(column -> column.strip().toLowerCase(Locale.ROOT)).toArray(String[]::new);
+            }
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            Map<String, String> row = new HashMap<>(8);
+            for (int i = 0; i < header.length && i < fields.size(); i++) {
+                row.put(header[i], fields.get(i));
+            }
+            return row;
+        }
+
+        /**
+         * 레코드 하나를 읽는 메서드
+         *
+         * @return 필드 목록 (입력이 끝났으면 null)
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"'); // 이스케이프된 큰따옴표
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
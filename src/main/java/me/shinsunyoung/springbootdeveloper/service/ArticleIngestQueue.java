@@ -0,0 +1,270 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 저장 요청을 메모리 대기열에 받아 두었다가 묶어서 저장하는 비동기 저장 파이프라인
+ * - 요청 스레드는 대기열에 넣고 바로 반환 (API는 202와 상태 조회 URL로 응답)
+ * - 전용 스레드 하나가 대기열에서 최대 batch-size개를 모아 BlogService.saveAll로 한 트랜잭션에 저장
+ *   (시퀀스 ID와 JDBC 배치 INSERT를 사용하므로 요청마다 INSERT/커밋을 하지 않음)
+ * - 대기열이 가득 차면 기다리지 않고 ArticleIngestQueueFullException을 던짐 (API는 503으로 응답)
+ * - 종료 시 웹 서버가 요청 수신을 멈춘 뒤 대기열에 남은 요청을 모두 저장하고 끝남
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class ArticleIngestQueue implements SmartLifecycle, MeterBinder {
+
+    private static final long POLL_TIMEOUT_MS = 100; // 대기열이 비었을 때 종료 여부를 다시 확인하는 주기
+
+    private final BlogService blogService; // 묶음 저장
+    private final BlockingQueue<Pending> queue; // 저장 대기 중인 요청
+    private final Cache<String, IngestStatus> statuses; // 접수 번호 -> 처리 상태 (일정 시간 후 제거)
+    private final int batchSize; // 한 트랜잭션에 저장할 최대 게시글 수
+    private final long lingerNanos; // 첫 요청 이후 묶음을 채우기 위해 기다리는 최대 시간
+    private final Duration drainTimeout; // 종료 시 남은 요청을 저장하며 기다리는 최대 시간
+
+    private final AtomicInteger submitting = new AtomicInteger(); // 대기열에 넣는 중인 요청 수 (종료 시 유실 방지)
+    private final LongAdder rejected = new LongAdder(); // 대기열이 가득 차 거절한 요청 수
+
+    private volatile boolean accepting; // 새 요청을 받는 중인지 여부
+    private volatile Thread flusher; // 대기열을 비우는 전용 스레드
+
+    public ArticleIngestQueue(BlogService blogService,
+                              @Value("${blog.ingest.queue-capacity:10000}") int queueCapacity,
+                              @Value("${blog.ingest.batch-size:" + BlogService.BATCH_SIZE + "}") int batchSize,
+                              @Value("${blog.ingest.linger:20ms}") Duration linger,
+                              @Value("${blog.ingest.status-ttl:10m}") Duration statusTtl,
+                              @Value("${blog.ingest.drain-timeout:20s}") Duration drainTimeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size must be positive: " + batchSize);
+        }
+        this.blogService = blogService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(Math.max(10_000L, queueCapacity * 10L)) // 대기열보다 충분히 크게 (상태를 조회하기 전에 밀려나지 않도록)
+                .expireAfterWrite(statusTtl)
+                .build();
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * 게시글 저장 요청을 대기열에 넣는 메서드 (기다리지 않음)
+     *
+     * @param request 저장할 게시글
+     * @return 처리 상태를 조회할 접수 번호
+     * @throws ArticleIngestQueueFullException 대기열이 가득 찼거나 종료 중일 경우 예외 발생
+     */
+    public String submit(AddArticleRequest request) {
+        submitting.incrementAndGet();
+        try {
+            if (!accepting) {
+                throw new ArticleIngestQueueFullException("article ingest is not accepting requests");
+            }
+
+            String ticket = UUID.randomUUID().toString();
+            statuses.put(ticket, IngestStatus.PENDING);
+            if (!queue.offer(new Pending(ticket, request))) {
+                statuses.invalidate(ticket);
+                rejected.increment();
+                throw new ArticleIngestQueueFullException("article ingest queue is full");
+            }
+            return ticket;
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    /**
+     * 접수 번호의 처리 상태를 반환하는 메서드
+     *
+     * @param ticket 접수 번호
+     * @return 처리 상태
+     * @throws IllegalArgumentException 알 수 없거나 보관 시간이 지난 접수 번호일 경우 예외 발생
+     */
+    public IngestStatus status(String ticket) {
+        IngestStatus status = statuses.getIfPresent(ticket);
+        if (status == null) {
+            throw new IllegalArgumentException("not found: " + ticket);
+        }
+        return status;
+    }
+
+    /**
+     * 대기열을 비우는 전용 스레드의 본문
+     * 요청 수신이 멈춘 뒤에도 대기열과 넣는 중인 요청이 모두 처리될 때까지 계속 저장함
+     */
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            while (accepting || submitting.get() > 0 || !queue.isEmpty()) {
+                Pending first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 요청이 드문드문 들어올 때는 linger 동안 기다려 묶음을 채움 (부하가 높으면 바로 가득 참)
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !accepting) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("article ingest interrupted, {} queued requests were not saved", queue.size() + batch.size());
+        }
+    }
+
+    /**
+     * 모은 요청을 한 트랜잭션에서 저장하고 상태를 갱신하는 메서드
+     * 묶음 저장이 실패하면 한 건씩 다시 저장하여 문제가 있는 요청만 실패로 표시함
+     * (커밋 후 작업의 오류는 saveAll 밖으로 전달되지 않으므로, 예외는 묶음이 롤백되었을 때만 발생함)
+     *
+     * @param batch 저장할 요청 목록
+     */
+    private void flush(List<Pending> batch) {
+        try {
+            List<Long> ids = blogService.saveAll(batch.stream().map(Pending::request).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                statuses.put(batch.get(i).ticket(), IngestStatus.saved(ids.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("article ingest batch of {} failed, retrying one by one", batch.size(), e);
+            for (Pending pending : batch) {
+                try {
+                    statuses.put(pending.ticket(), IngestStatus.saved(blogService.save(pending.request()).getId()));
+                } catch (RuntimeException single) {
+                    statuses.put(pending.ticket(), IngestStatus.failed(single.getMessage()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        Thread thread = new Thread(this::run, "article-ingest");
+        thread.setDaemon(true);
+        thread.start();
+        flusher = thread;
+    }
+
+    @Override
+    public void stop() {
+        accepting = false; // 새 요청은 거절하고 남은 요청만 저장
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("article ingest did not drain within {}, {} requests still queued", drainTimeout, queue.size());
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버(DEFAULT_PHASE - 2048)가 요청 수신을 멈춘 뒤에 중지되도록 더 낮은 단계로 지정
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("article.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Article create requests waiting to be saved")
+                .register(registry);
+        FunctionCounter.builder("article.ingest.rejected", rejected, LongAdder::sum)
+                .description("Article create requests rejected because the ingest queue was full")
+                .register(registry);
+    }
+
+    /**
+     * 저장 대기 중인 요청
+     *
+     * @param ticket  접수 번호
+     * @param request 저장할 게시글
+     */
+    private record Pending(String ticket, AddArticleRequest request) {
+    }
+
+    /**
+     * 처리 상태
+     */
+    public enum State {
+        PENDING, // 대기열에서 저장을 기다리는 중
+        SAVED, // 저장 완료
+        FAILED // 저장 실패
+    }
+
+    /**
+     * 접수 번호별 처리 상태 (불변 객체)
+     */
+    @Getter // 필드에 대한 Getter 메서드 자동 생성
+    public static final class IngestStatus {
+
+        static final IngestStatus PENDING = new IngestStatus(State.PENDING, null, null);
+
+        private final State state; // 처리 상태
+        private final Long articleId; // 저장된 게시글 ID (저장 전이나 실패 시 null)
+        private final String error; // 실패 사유 (실패가 아니면 null)
+
+        private IngestStatus(State state, Long articleId, String error) {
+            this.state = state;
+            this.articleId = articleId;
+            this.error = error;
+        }
+
+        static IngestStatus saved(Long articleId) {
+            return new IngestStatus(State.SAVED, articleId, null);
+        }
+
+        static IngestStatus failed(String error) {
+            return new IngestStatus(State.FAILED, null, error);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+/**
+ * 게시글 비동기 저장 대기열이 가득 찼거나 종료 중이라 요청을 받지 못했을 때 발생하는 예외.
+ * API에서는 503과 Retry-After로 응답하여 클라이언트가 속도를 늦추도록 함.
+ */
+public class ArticleIngestQueueFullException extends RuntimeException {
+
+    public ArticleIngestQueueFullException(String message) {
+        super(message);
+    }
+}
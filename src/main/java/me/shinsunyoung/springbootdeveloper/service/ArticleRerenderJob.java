@@ -0,0 +1,67 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 렌더러 버전(MarkdownRenderer.VERSION)이 올라갔을 때 저장된 게시글 HTML을 배치 단위로 다시 만드는 작업
+ * - 시작 직후와 이후 주기마다 테이블을 ID 순서로 훑으며 render_version이 낮은 글만 다시 렌더링
+ * - 배치마다 트랜잭션을 나누고 배치 사이에 쉬어서, 테이블이 커도 요청 처리와 DB를 오래 점유하지 않음
+ * - 롤링 배포 중 이전 버전 노드가 저장한 글도 다음 주기에 최신 버전으로 바뀜
+ * 다시 렌더링되기 전까지는 기존 HTML(없으면 원문 텍스트)이 그대로 표시됨
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class ArticleRerenderJob {
+
+    private final BlogService blogService; // 배치 단위로 다시 렌더링하는 서비스
+    private final int batchSize; // 한 트랜잭션에서 다시 렌더링할 게시글 수
+    private final long pauseMillis; // 배치 사이에 쉬는 시간
+
+    public ArticleRerenderJob(BlogService blogService,
+                              @Value("${blog.render.batch-size:100}") int batchSize,
+                              @Value("${blog.render.batch-pause:50ms}") Duration batchPause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size must be positive: " + batchSize);
+        }
+        this.blogService = blogService;
+        this.batchSize = batchSize;
+        this.pauseMillis = batchPause.toMillis();
+    }
+
+    /**
+     * 렌더러 버전이 낮은 게시글을 모두 다시 렌더링하는 메서드
+     * 실패하면 로그만 남기고 다음 주기에 처음부터 다시 시도함 (이미 처리한 글은 버전이 올라가 있어 건너뜀)
+     *
+     * @return 다시 렌더링한 배치 수
+     */
+    @Scheduled(initialDelayString = "${blog.render.initial-delay:10s}",
+            fixedDelayString = "${blog.render.check-interval:10m}")
+    public int rerenderOutdated() {
+        long started = System.nanoTime();
+        long afterId = 0;
+        int batches = 0;
+        try {
+            while ((afterId = blogService.rerenderOutdated(afterId, batchSize)) >= 0) {
+                batches++;
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 종료 중이면 중단
+        } catch (RuntimeException e) {
+            log.warn("article re-render stopped after {} batches", batches, e);
+        }
+
+        if (batches > 0) {
+            log.info("re-rendered outdated articles in {} batches ({} ms, renderer version {})",
+                    batches, (System.nanoTime() - started) / 1_000_000, MarkdownRenderer.VERSION);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,277 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목과 내용에 대한 인메모리 역색인(inverted index)
+ * 단어(토큰)마다 게시글 ID와 등장 횟수를 정렬된 기본형 배열로 보관하고, BM25로 점수를 매김
+ * 시작 시 전체 게시글로 채워지고, 이후에는 BlogService의 저장/수정/삭제에 맞춰 갱신됨
+ *
+ * 메모리는 색인된 게시글의 고유 토큰 수에 비례함 (토큰 하나당 게시글 ID/횟수 12바이트와 토큰 참조 8바이트 정도,
+ * 본문 수 KB짜리 게시글이면 게시글당 수십 KB). 그래서 최대 max-documents개만 보관하며, 가득 차면 ID가 가장 작은(가장 오래된)
+ * 게시글부터 색인에서 빼고 그보다 오래된 게시글은 색인하지 않음
+ * - 장점: 게시글 수와 관계없이 힙 사용량의 상한이 정해지고, 시작 시 색인 시간도 max-documents에 비례함
+ * - 단점: 오래된 게시글은 검색 결과에 나오지 않음 (전체 검색이 필요하면 값을 늘리거나 DB 전문 검색을 사용)
+ */
+@Component // 스프링 빈으로 등록
+public class ArticleSearchIndex {
+
+    private static final double K1 = 1.2; // BM25 단어 빈도 포화 계수
+    private static final double B = 0.75; // BM25 문서 길이 정규화 계수
+    private static final int TITLE_BOOST = 2; // 제목 토큰은 본문보다 두 배로 계산
+
+    private final int maxDocuments; // 색인에 보관할 최대 게시글 수
+
+    private final Map<String, PostingList> postings = new HashMap<>(); // 토큰 -> 게시글 목록
+    private final TreeMap<Long, String[]> documentTerms = new TreeMap<>(); // 게시글 ID -> 색인된 토큰 (삭제/오래된 글 제거 시 사용)
+    private final Map<Long, Integer> documentLengths = new HashMap<>(); // 게시글 ID -> 토큰 수
+    private long totalLength; // 전체 게시글 토큰 수 합 (평균 길이 계산용)
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 검색은 동시에, 갱신은 단독으로
+
+    public ArticleSearchIndex(@Value("${blog.search.max-documents:100000}") int maxDocuments) {
+        if (maxDocuments < 1) {
+            throw new IllegalArgumentException("maxDocuments must be positive: " + maxDocuments);
+        }
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * 게시글을 색인하는 메서드 (이미 색인된 게시글이면 기존 항목을 교체)
+     *
+     * @param id      게시글 ID
+     * @param title   게시글 제목
+     * @param content 게시글 내용
+     */
+    public void index(long id, String title, String content) {
+        Map<String, Integer> frequencies = termFrequencies(title, content);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            addDocument(id, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 게시글만 색인하는 메서드 (시작 시 전체 색인용)
+     * 전체 색인 도중 먼저 반영된 최신 수정 내용을 오래된 값으로 덮어쓰지 않기 위해 사용함
+     *
+     * @param id      게시글 ID
+     * @param title   게시글 제목
+     * @param content 게시글 내용
+     */
+    public void indexIfAbsent(long id, String title, String content) {
+        Map<String, Integer> frequencies = termFrequencies(title, content);
+
+        lock.writeLock().lock();
+        try {
+            if (!documentLengths.containsKey(id)) {
+                addDocument(id, frequencies);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거하는 메서드
+     *
+     * @param id 제거할 게시글 ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련도가 높은 게시글을 BM25 점수 순으로 반환하는 메서드
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순서의 검색 결과 목록
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(ArticleTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    long id = list.ids[i];
+                    int frequency = list.frequencies[i];
+                    double norm = K1 * (1 - B + B * documentLengths.get(id) / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit개만 남기는 최소 힙
+        PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::getScore));
+        scores.forEach((id, score) -> {
+            if (top.size() < limit) {
+                top.add(new Hit(id, score));
+            } else if (score > top.peek().getScore()) {
+                top.poll();
+                top.add(new Hit(id, score));
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed());
+        return hits;
+    }
+
+    /**
+     * 색인된 게시글 수를 반환
+     *
+     * @return 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : ArticleTokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : ArticleTokenizer.tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private void addDocument(long id, Map<String, Integer> frequencies) {
+        if (documentTerms.size() >= maxDocuments) {
+            if (id < documentTerms.firstKey()) {
+                return; // 색인된 게시글보다 오래된 게시글
+            }
+            removeDocument(documentTerms.firstKey()); // 가장 오래된 게시글을 빼고 자리를 만듦
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new PostingList()).put(id, entry.getValue());
+            length += entry.getValue();
+        }
+        documentTerms.put(id, frequencies.keySet().toArray(new String[0]));
+        documentLengths.put(id, length);
+        totalLength += length;
+    }
+
+    private void removeDocument(long id) {
+        String[] terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term); // 빈 목록은 제거하여 메모리 회수
+            }
+        }
+        totalLength -= documentLengths.remove(id);
+    }
+
+    /**
+     * 검색 결과 한 건 (게시글 ID와 BM25 점수)
+     */
+    @Getter // 필드의 Getter 메서드를 자동 생성
+    public static final class Hit {
+
+        private final long id; // 게시글 ID
+        private final double score; // BM25 점수
+
+        Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 한 토큰이 등장하는 게시글 목록
+     * 게시글 ID 오름차순으로 정렬된 long/int 배열에 보관하여 객체 생성 없이 순회할 수 있음
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4]; // 게시글 ID (오름차순)
+        private int[] frequencies = new int[4]; // 게시글 내 등장 횟수
+        private int size; // 실제 사용 중인 길이
+
+        void put(long id, int frequency) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
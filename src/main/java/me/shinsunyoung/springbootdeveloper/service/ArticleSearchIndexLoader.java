@@ -0,0 +1,38 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 전체 게시글로 검색 색인을 채우는 클래스
+ * 게시글은 DB 커서로 한 건씩 읽으므로 전체 목록을 메모리에 올리지 않음
+ * blog.search.load-on-startup=false이면 등록되지 않음 (시작 시 전체 테이블을 읽지 않고, 이후 저장/수정된 글만 검색됨)
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@RequiredArgsConstructor // final 필드가 있는 생성자를 자동으로 생성 (의존성 주입을 위해 사용)
+@Component // 스프링 빈으로 등록
+@ConditionalOnProperty(prefix = "blog.search", name = "load-on-startup", havingValue = "true", matchIfMissing = true)
+public class ArticleSearchIndexLoader {
+
+    private final BlogService blogService; // 게시글을 DB 커서로 읽어오는 서비스
+
+    private final ArticleSearchIndex searchIndex; // 채울 검색 색인
+
+    /**
+     * 애플리케이션 준비가 끝나면 전체 게시글을 색인하는 메서드
+     * 이 사이에 저장/수정된 게시글은 BlogService가 먼저 색인하므로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        blogService.exportAll(article ->
+                searchIndex.indexIfAbsent(article.getId(), article.getTitle(), article.getContent()));
+
+        log.info("search index built: {} articles in {} ms",
+                searchIndex.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
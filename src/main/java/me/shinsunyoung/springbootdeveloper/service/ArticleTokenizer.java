@@ -0,0 +1,72 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * 글자/숫자가 아닌 문자로 단어를 나눈 뒤, 한글·한자·가나가 포함된 단어는 2글자 단위(bigram)로 자르고
+ * 그 외(영문, 숫자) 단어는 소문자로 바꾼 단어 그대로 사용함
+ * 형태소 분석 없이도 "스프링부트"로 "스프링 부트"를 찾을 수 있음
+ */
+final class ArticleTokenizer {
+
+    private ArticleTokenizer() {
+    }
+
+    /**
+     * 문자열을 토큰 목록으로 분리하는 메서드
+     *
+     * @param text 분리할 문자열 (null 허용)
+     * @return 토큰 목록 (중복 포함, 등장 순서대로)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); ) {
+            int codePoint = i < text.length() ? text.codePointAt(i) : ' ';
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                addWord(text.substring(start, i), tokens);
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return tokens;
+    }
+
+    private static void addWord(String word, List<String> tokens) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        if (!containsCjk(lower)) {
+            tokens.add(lower);
+            return;
+        }
+
+        int[] codePoints = lower.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(lower); // 한 글자 단어는 그대로 사용
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean containsCjk(String word) {
+        return word.codePoints().anyMatch(codePoint -> {
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            return script == Character.UnicodeScript.HANGUL
+                    || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA;
+        });
+    }
+}
@@ -0,0 +1,302 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최근 많이 읽힌 게시글(top-K)을 근사적으로 추적하는 클래스
+ *
+ * - 조회 시: 현재 주기(refresh-interval)의 게시글별 LongAdder에 더하기만 함 (잠금 없음)
+ * - 주기마다: 모인 값을 시간 버킷별 Space-Saving 요약에 합치고, 최근 1시간/1일 순위를 미리 계산해 둠
+ * - 조회 API는 미리 계산된 스냅샷(게시글 ID, 제목, 조회수)을 그대로 반환하므로 DB와 게시글 캐시를 읽지 않음
+ *   (제목은 조회할 때 함께 기록해 두며, 수정/삭제되면 rename/remove로 스냅샷에 바로 반영함)
+ *
+ * Space-Saving 요약은 버킷마다 capacity개의 게시글만 보관하므로 게시글 수와 관계없이 메모리 사용량이 일정하며,
+ * 조회수가 capacity번째 항목보다 많은 게시글은 순위에서 빠지지 않음 (값은 최대 error만큼 과대 추정될 수 있음)
+ */
+@Component // 스프링 빈으로 등록
+public class ArticleTrendingTracker {
+
+    public static final int MAX_TOP_K = 100; // 미리 계산해 두는 최대 순위 수
+
+    private final int maxPendingKeys; // 한 주기에 따로 셀 수 있는 최대 게시글 수
+    private final Window hour; // 최근 1시간 (5분 버킷 12개)
+    private final Window day; // 최근 1일 (1시간 버킷 24개)
+
+    private volatile Map<Long, Pending> pending = new ConcurrentHashMap<>(); // 이번 주기에 읽힌 횟수와 제목
+    private final Map<Long, String> titles = new HashMap<>(); // 버킷에 남아 있는 게시글의 제목 (refresh에서만 사용)
+    private final Set<Long> removed = new HashSet<>(); // 지난 주기 이후 삭제된 게시글 (삭제 직전의 조회가 다시 들어오지 않게 함)
+    private volatile Map<TrendingWindow, List<Entry>> snapshot = Map.of( // 미리 계산된 순위
+            TrendingWindow.HOUR, List.of(), TrendingWindow.DAY, List.of());
+
+    public ArticleTrendingTracker(@Value("${blog.trending.capacity:1000}") int capacity,
+                                  @Value("${blog.trending.max-pending-keys:10000}") int maxPendingKeys) {
+        this.maxPendingKeys = maxPendingKeys;
+        this.hour = new Window(Duration.ofMinutes(5), 12, capacity);
+        this.day = new Window(Duration.ofHours(1), 24, capacity);
+    }
+
+    /**
+     * 게시글이 한 번 읽혔음을 기록하는 메서드
+     *
+     * @param id    읽힌 게시글 ID
+     * @param title 읽힌 게시글 제목 (순위 스냅샷에 그대로 사용)
+     */
+    public void record(long id, String title) {
+        Map<Long, Pending> current = pending;
+        Pending counter = current.get(id);
+        if (counter == null) {
+            if (current.size() >= maxPendingKeys) {
+                return; // 한 주기에 처음 보는 게시글이 너무 많으면 버림 (많이 읽히는 글은 이미 들어 있음)
+            }
+            counter = current.computeIfAbsent(id, key -> new Pending());
+        }
+        counter.title = title;
+        counter.views.increment();
+    }
+
+    /**
+     * 수정된 게시글의 제목을 순위 스냅샷에 반영하는 메서드
+     *
+     * @param id    수정된 게시글 ID
+     * @param title 바뀐 제목
+     */
+    public synchronized void rename(long id, String title) {
+        if (titles.replace(id, title) != null) {
+            snapshot = mapSnapshot(entry -> entry.getId() == id ? new Entry(id, title, entry.getViews()) : entry);
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 집계와 순위 스냅샷에서 제거하는 메서드
+     *
+     * @param id 삭제된 게시글 ID
+     */
+    public synchronized void remove(long id) {
+        pending.remove(id);
+        removed.add(id);
+        hour.remove(id);
+        day.remove(id);
+        titles.remove(id);
+        snapshot = mapSnapshot(entry -> entry.getId() == id ? null : entry);
+    }
+
+    /**
+     * 기간별로 미리 계산된 인기 게시글 순위를 반환하는 메서드
+     *
+     * @param window 집계 기간
+     * @return 조회수가 많은 순으로 정렬된 최대 MAX_TOP_K개의 항목
+     */
+    public List<Entry> top(TrendingWindow window) {
+        return snapshot.get(window);
+    }
+
+    /**
+     * 이번 주기에 모인 조회를 시간 버킷에 합치고 순위 스냅샷을 다시 계산하는 메서드
+     */
+    @Scheduled(fixedDelayString = "${blog.trending.refresh-interval:10s}")
+    public synchronized void refresh() {
+        Map<Long, Pending> collected = pending;
+        pending = new ConcurrentHashMap<>(); // 이후 조회는 새 맵에 기록됨
+
+        long now = System.currentTimeMillis();
+        collected.forEach((id, counter) -> {
+            if (removed.contains(id)) {
+                return; // 삭제와 경합한 조회
+            }
+            long count = counter.views.sum();
+            hour.add(now, id, count);
+            day.add(now, id, count);
+            titles.put(id, counter.title);
+        });
+        removed.clear();
+        titles.keySet().removeIf(id -> !hour.contains(now, id) && !day.contains(now, id)); // 순위 후보에서 빠진 게시글
+
+        snapshot = Map.of(
+                TrendingWindow.HOUR, hour.top(now, MAX_TOP_K, titles),
+                TrendingWindow.DAY, day.top(now, MAX_TOP_K, titles));
+    }
+
+    /**
+     * 현재 순위 스냅샷의 각 항목을 바꾼 새 스냅샷을 만드는 메서드 (null을 반환한 항목은 제외)
+     */
+    private Map<TrendingWindow, List<Entry>> mapSnapshot(UnaryOperator<Entry> mapper) {
+        Map<TrendingWindow, List<Entry>> mapped = new HashMap<>();
+        snapshot.forEach((window, entries) -> {
+            List<Entry> list = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                Entry result = mapper.apply(entry);
+                if (result != null) {
+                    list.add(result);
+                }
+            }
+            mapped.put(window, List.copyOf(list));
+        });
+        return Map.copyOf(mapped);
+    }
+
+    /**
+     * 집계 기간
+     */
+    public enum TrendingWindow {
+        HOUR, DAY
+    }
+
+    /**
+     * 순위 항목 한 건 (게시글 ID, 제목, 추정 조회수)
+     */
+    @Getter // 필드의 Getter 메서드를 자동 생성
+    public static final class Entry {
+
+        private final long id; // 게시글 ID
+        private final String title; // 마지막으로 읽혔을 때의 제목
+        private final long views; // 기간 내 추정 조회수
+
+        Entry(long id, String title, long views) {
+            this.id = id;
+            this.title = title;
+            this.views = views;
+        }
+    }
+
+    /**
+     * 한 주기 동안 게시글 하나에 모인 조회 (횟수와 마지막으로 본 제목)
+     */
+    private static final class Pending {
+
+        private final LongAdder views = new LongAdder(); // 읽힌 횟수
+        private volatile String title; // 마지막으로 읽혔을 때의 제목
+    }
+
+    /**
+     * 고정 길이 버킷을 원형으로 돌려 쓰는 슬라이딩 윈도우
+     * 현재 시각이 속한 버킷부터 bucketCount개의 버킷을 합쳐 순위를 계산하고, 오래된 버킷은 다시 쓸 때 비움
+     */
+    private static final class Window {
+
+        private final long bucketMillis; // 버킷 하나의 길이
+        private final SpaceSaving[] buckets; // 버킷별 요약
+        private final long[] bucketNumbers; // 각 칸에 담긴 버킷 번호 (epoch / bucketMillis)
+
+        Window(Duration bucket, int bucketCount, int capacity) {
+            this.bucketMillis = bucket.toMillis();
+            this.buckets = new SpaceSaving[bucketCount];
+            this.bucketNumbers = new long[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                buckets[i] = new SpaceSaving(capacity);
+                bucketNumbers[i] = -1;
+            }
+        }
+
+        void add(long now, long id, long count) {
+            long number = now / bucketMillis;
+            int slot = (int) (number % buckets.length);
+            if (bucketNumbers[slot] != number) {
+                buckets[slot].clear(); // 한 바퀴 전의 오래된 버킷
+                bucketNumbers[slot] = number;
+            }
+            buckets[slot].add(id, count);
+        }
+
+        boolean contains(long now, long id) {
+            long oldest = now / bucketMillis - buckets.length + 1;
+            for (int i = 0; i < buckets.length; i++) {
+                if (bucketNumbers[i] >= oldest && buckets[i].contains(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void remove(long id) {
+            for (SpaceSaving bucket : buckets) {
+                bucket.remove(id);
+            }
+        }
+
+        List<Entry> top(long now, int k, Map<Long, String> titles) {
+            long oldest = now / bucketMillis - buckets.length + 1;
+            Map<Long, long[]> merged = new HashMap<>();
+            for (int i = 0; i < buckets.length; i++) {
+                if (bucketNumbers[i] >= oldest) {
+                    buckets[i].forEach((id, count) ->
+                            merged.computeIfAbsent(id, key -> new long[1])[0] += count);
+                }
+            }
+
+            List<Entry> entries = new ArrayList<>(merged.size());
+            merged.forEach((id, count) -> entries.add(new Entry(id, titles.get(id), count[0])));
+            entries.sort(Comparator.comparingLong(Entry::getViews).reversed().thenComparingLong(Entry::getId));
+            return List.copyOf(entries.subList(0, Math.min(k, entries.size())));
+        }
+    }
+
+    /**
+     * Space-Saving 요약 (Metwally et al.)
+     * 최대 capacity개의 (게시글, 횟수)만 보관하며, 가득 찬 상태에서 새 게시글이 들어오면
+     * 가장 작은 항목을 내보내고 그 횟수를 이어받음 (과대 추정의 상한은 내보낸 항목의 횟수)
+     * synchronized 메서드(refresh/rename/remove) 안에서만 사용하므로 동기화하지 않음
+     */
+    private static final class SpaceSaving {
+
+        private final int capacity; // 최대 보관 항목 수
+        private final Map<Long, long[]> counters; // 게시글 ID -> {횟수}
+
+        SpaceSaving(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        void add(long id, long count) {
+            long[] counter = counters.get(id);
+            if (counter != null) {
+                counter[0] += count;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(id, new long[]{count});
+                return;
+            }
+
+            Map.Entry<Long, long[]> min = null;
+            for (Map.Entry<Long, long[]> entry : counters.entrySet()) {
+                if (min == null || entry.getValue()[0] < min.getValue()[0]) {
+                    min = entry;
+                }
+            }
+            counters.remove(min.getKey());
+            counters.put(id, new long[]{min.getValue()[0] + count});
+        }
+
+        void forEach(BiConsumer<Long, Long> action) {
+            counters.forEach((id, counter) -> action.accept(id, counter[0]));
+        }
+
+        boolean contains(long id) {
+            return counters.containsKey(id);
+        }
+
+        void remove(long id) {
+            counters.remove(id);
+        }
+
+        void clear() {
+            counters.clear();
+        }
+    }
+}
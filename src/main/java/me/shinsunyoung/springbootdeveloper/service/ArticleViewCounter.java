@@ -0,0 +1,131 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 모았다가 주기적으로 DB에 반영하는 카운터 (write-behind)
+ * - 조회마다 UPDATE를 실행하지 않고 게시글별 LongAdder에 더함 (여러 스레드가 동시에 더해도 경합이 적음)
+ * - blog.view-count.flush-interval 마다 쌓인 값을 JDBC 배치 UPDATE 한 번으로 반영
+ * - 애플리케이션이 비정상 종료되면 마지막 반영 이후(최대 flush-interval)의 조회수만 잃음
+ * - 반영한 뒤에도 게시글의 LongAdder를 맵에서 빼지 않음 (빼는 순간 잠금 없이 더하던 조회수를 잃을 수 있으므로,
+ *   게시글이 삭제될 때만 remove로 뺌, 맵 크기는 조회된 적 있는 게시글 수로 제한됨)
+ */
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
+@Component // 스프링 빈으로 등록
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500; // JDBC 배치 하나에 담을 UPDATE 수
+
+    private final JdbcTemplate jdbcTemplate; // 배치 UPDATE 실행
+    private final TransactionTemplate transactionTemplate; // 배치 전체를 한 트랜잭션으로 묶음
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>(); // 게시글 ID -> 아직 반영하지 않은 조회수
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시키는 메서드 (메모리에서만 증가)
+     *
+     * @param id 게시글 ID
+     */
+    public void increment(long id) {
+        LongAdder adder = pending.get(id); // 이미 있으면 잠금 없이 바로 증가
+        if (adder == null) {
+            adder = pending.computeIfAbsent(id, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 조회수를 반환하는 메서드
+     *
+     * @param id 게시글 ID
+     * @return 반영 대기 중인 조회수
+     */
+    public long pending(long id) {
+        LongAdder adder = pending.get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 삭제된 게시글의 카운터를 제거하는 메서드
+     * 삭제와 경합한 조회수는 반영할 행이 없으므로 잃어도 됨
+     *
+     * @param id 삭제된 게시글 ID
+     */
+    public void remove(long id) {
+        pending.remove(id);
+    }
+
+    /**
+     * 쌓인 조회수를 DB에 반영하는 메서드
+     * 값을 먼저 UPDATE한 뒤 커밋이 끝나면 반영한 만큼만 빼므로, 반영 중에 들어온 조회수는 다음 주기로 넘어가고
+     * DB 오류가 나면 아무것도 빼지 않아 다음 주기에 다시 시도함
+     *
+     * @return 반영한 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:5s}")
+    public synchronized int flush() {
+        List<Update> updates = new ArrayList<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                updates.add(new Update(id, delta, adder));
+            }
+        });
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        updates.sort(Comparator.comparingLong(Update::id)); // 항상 같은 순서로 행 잠금
+
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(FLUSH_SQL, updates, FLUSH_BATCH_SIZE, (ps, update) -> {
+                    ps.setLong(1, update.delta());
+                    ps.setLong(2, update.id());
+                }));
+
+        for (Update update : updates) {
+            update.adder().add(-update.delta()); // 커밋된 만큼만 차감 (그 사이 삭제된 게시글이어도 안전)
+        }
+        return updates.size();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수를 마지막으로 반영하는 메서드
+     * (DataSource보다 먼저 정리되므로 DB 연결을 사용할 수 있음)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush();
+            log.info("flushed view counts of {} articles on shutdown", flushed);
+        } catch (RuntimeException e) {
+            log.warn("failed to flush view counts on shutdown", e);
+        }
+    }
+
+    /**
+     * 한 번의 반영에 담을 게시글별 증가분
+     *
+     * @param id    게시글 ID
+     * @param delta 반영할 증가분
+     * @param adder 증가분을 읽은 카운터 (커밋 후 차감할 대상)
+     */
+    private record Update(long id, long delta, LongAdder adder) {
+    }
+}
@@ -1,25 +1,63 @@
 package me.shinsunyoung.springbootdeveloper.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSnapshot;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleSummary;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleVersion;
 import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleCursor;
+import me.shinsunyoung.springbootdeveloper.dto.ArticlePage;
+import me.shinsunyoung.springbootdeveloper.dto.InvalidCursorException;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleSearchResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleTrendingResponse;
 import me.shinsunyoung.springbootdeveloper.dto.UpdateArticleRequest;
 import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 블로그 서비스 클래스
  * 게시글과 관련된 비즈니스 로직을 처리
  */
 @RequiredArgsConstructor // final 필드가 있는 생성자를 자동으로 생성 (의존성 주입을 위해 사용)
+@Slf4j // 로그 출력을 위한 Logger 자동 생성
 @Service // 스프링의 서비스 컴포넌트로 등록
 public class BlogService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20; // 페이지 크기를 지정하지 않았을 때의 기본값
+    public static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 게시글 수
+    public static final int BATCH_SIZE = 50; // 일괄 처리 시 flush 단위 (hibernate.jdbc.batch_size와 동일)
+
     private final BlogRepository blogRepository; // 블로그 저장소 (JPA Repository)
 
+    private final EntityManager entityManager; // 영속성 컨텍스트 (대량 조회 시 엔티티 분리에 사용)
+
+    private final ArticleCache articleCache; // 게시글 스냅샷 캐시 (단건 조회용)
+
+    private final ArticleSearchIndex searchIndex; // 제목/내용 검색용 역색인
+
+    private final ArticleViewCounter viewCounter; // 조회수 write-behind 카운터
+
+    private final ArticleTrendingTracker trendingTracker; // 인기 게시글 순위 추적
+
+    private final MarkdownRenderer markdownRenderer; // 게시글 내용(Markdown) 렌더러
+
+    private final ArticleChangeFeed changeFeed; // 추가/수정/삭제 이벤트를 구독자에게 전달하는 변경 피드
+
     /**
      * 게시글을 저장하는 메서드
      *
@@ -27,7 +65,37 @@ public class BlogService {
      * @return 저장된 Article 엔티티 객체
      */
     public Article save(AddArticleRequest request) {
-        return blogRepository.save(request.toEntity()); // DTO를 엔티티로 변환 후 저장
+        Article article = request.toEntity(); // DTO를 엔티티로 변환
+        render(article); // 조회 때마다 렌더링하지 않도록 저장할 때 HTML을 함께 만듦
+        Article saved = blogRepository.save(article);
+        afterCommit(() -> refresh(saved, ArticleChangeFeed.Type.CREATED)); // 새 글은 바로 캐시와 검색 색인에 반영
+        return saved;
+    }
+
+    /**
+     * 여러 게시글을 한 트랜잭션에서 저장하는 메서드
+     * 시퀀스 ID와 JDBC 배치로 INSERT를 묶고, 배치 크기마다 flush/clear 하여 영속성 컨텍스트가 커지지 않게 함
+     *
+     * @param requests 저장할 게시글 목록
+     * @return 저장된 게시글 ID 목록 (요청 순서와 동일)
+     */
+    @Transactional
+    public List<Long> saveAll(List<AddArticleRequest> requests) {
+        List<Article> saved = new ArrayList<>(requests.size());
+        for (AddArticleRequest request : requests) {
+            Article article = request.toEntity();
+            render(article);
+            entityManager.persist(article);
+            saved.add(article);
+
+            if (saved.size() % BATCH_SIZE == 0) {
+                entityManager.flush(); // 모인 INSERT를 JDBC 배치로 전송
+                entityManager.clear(); // 1차 캐시 비우기
+            }
+        }
+
+        afterCommit(() -> saved.forEach(article -> refresh(article, ArticleChangeFeed.Type.CREATED)));
+        return saved.stream().map(Article::getId).toList();
     }
 
     /**
@@ -35,30 +103,209 @@ public class BlogService {
      *
      * @return 데이터베이스에 저장된 모든 Article 엔티티 목록 (List 형태)
      */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 (복제본이 설정되어 있으면 복제본에서 실행)
     public List<Article> findAll() {
         return blogRepository.findAll(); // JPA의 기본 제공 메서드를 사용하여 모든 게시글 조회
     }
 
+    /**
+     * 키셋(커서) 방식으로 게시글 요약 한 페이지를 조회하는 메서드
+     * 최신 게시글부터 (created_at, id) 내림차순으로 반환하며, 본문(content)은 읽지 않음
+     *
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE 범위로 보정됨)
+     * @return 게시글 요약 목록과 다음 페이지 커서
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 예외 발생
+     */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 (flush와 변경 감지를 하지 않음)
+    public ArticlePage findPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회 (엔티티가 아닌 요약 프로젝션으로 조회)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ArticleSummary> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = blogRepository.findFirstSummaryPage(limit);
+        } else {
+            ArticleCursor decoded = ArticleCursor.decode(cursor);
+            articles = blogRepository.findNextSummaryPage(decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        if (articles.size() <= pageSize) {
+            return new ArticlePage(articles, null); // 마지막 페이지
+        }
+
+        List<ArticleSummary> page = articles.subList(0, pageSize);
+        return new ArticlePage(page, ArticleCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * 모든 게시글을 DB 커서로 한 건씩 읽어 전달하는 메서드 (대량 내보내기용)
+     * 처리한 엔티티는 즉시 영속성 컨텍스트에서 분리하여 테이블 크기와 관계없이 메모리 사용량을 일정하게 유지함
+     *
+     * @param consumer 게시글을 한 건씩 처리할 콜백
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Article> consumer) {
+        try (Stream<Article> articles = blogRepository.streamAllByOrderById()) {
+            articles.forEach(article -> {
+                consumer.accept(article);
+                entityManager.detach(article); // 처리한 엔티티는 1차 캐시에서 제거
+            });
+        }
+    }
+
     /**
      * 특정 ID를 가진 게시글을 조회하는 메서드
+     * 캐시에 있으면 DB를 조회하지 않고, 없으면 DB에서 읽어 캐시에 저장함 (read-through)
+     * 조회수와 인기 순위는 기록하지 않음 (읽기 화면/API에서 countView로 기록)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return ID에 해당하는 게시글의 불변 스냅샷
+     * @throws IllegalArgumentException 해당 ID의 게시글이 존재하지 않을 경우 예외 발생
+     */
+    public ArticleSnapshot findById(long id) {
+        // 캐시 적중 시 커넥션을 잡지 않도록 메서드 전체를 트랜잭션으로 묶지 않음
+        // (캐시 미스 시 blogRepository.findById는 Spring Data의 읽기 전용 트랜잭션으로 실행되어 복제본으로 라우팅됨)
+        return snapshot(id);
+    }
+
+    /**
+     * 특정 게시글의 버전(제목, 수정일, 렌더러 버전)만 조회하는 메서드
+     * 캐시에 있으면 캐시 값을 쓰고, 없으면 본문 없이 세 컬럼만 조회함
      *
      * @param id 조회할 게시글의 ID
-     * @return ID에 해당하는 Article 엔티티 객체
+     * @return 게시글의 버전 정보
      * @throws IllegalArgumentException 해당 ID의 게시글이 존재하지 않을 경우 예외 발생
      */
-    public Article findById(long id) {
-        return blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id)); // 존재하지 않으면 예외 발생
+    public ArticleVersion findVersion(long id) {
+        ArticleSnapshot cached = articleCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        return blogRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    }
+
+    /**
+     * 게시글이 한 번 읽혔음을 조회수와 인기 순위에 함께 기록하는 메서드
+     * 둘 다 메모리에서만 증가하며, 조회수는 DB에 주기적으로 모아서 반영됨
+     * (304 응답도 읽기로 세도록 게시글 읽기 화면/API에서 조건부 요청 확인 전에 호출)
+     *
+     * @param id    조회된 게시글의 ID
+     * @param title 조회된 게시글의 제목 (인기 순위에 표시)
+     */
+    public void countView(long id, String title) {
+        viewCounter.increment(id);
+        trendingTracker.record(id, title);
+    }
+
+    /**
+     * 게시글 조회수를 반환하는 메서드
+     * DB에 반영된 값에 아직 반영되지 않은 메모리의 증가분을 더함
+     *
+     * @param id 게시글 ID
+     * @return 현재 조회수
+     * @throws IllegalArgumentException 해당 ID의 게시글이 존재하지 않을 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public long findViewCount(long id) {
+        long persisted = blogRepository.findViewCountById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        return persisted + viewCounter.pending(id);
+    }
+
+    /**
+     * 게시글 목록 전체의 버전 문자열을 반환하는 메서드 (목록 ETag 계산용)
+     * 게시글이 추가, 수정, 삭제되면 값이 바뀜
+     *
+     * @return 게시글 수, 최대 ID, 최근 수정일을 이어 붙인 문자열
+     */
+    @Transactional(readOnly = true)
+    public String findListVersion() {
+        BlogRepository.TableVersion version = blogRepository.findTableVersion();
+        return version.getCount() + "-" + version.getMaxId() + "-" + version.getLastUpdatedAt();
+    }
+
+    /**
+     * 제목과 내용에서 검색어와 관련된 게시글을 찾는 메서드
+     * DB를 조회하지 않고 인메모리 색인에서 BM25 점수로 정렬한 뒤, 결과 게시글만 캐시를 통해 읽어옴
+     *
+     * @param query 검색어
+     * @param size  최대 결과 수 (1 ~ MAX_PAGE_SIZE 범위로 보정됨)
+     * @return 관련도 순으로 정렬된 검색 결과 목록
+     */
+    public List<ArticleSearchResponse> search(String query, int size) {
+        List<ArticleSearchIndex.Hit> hits = searchIndex.search(query, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        List<ArticleSearchResponse> results = new ArrayList<>(hits.size());
+        for (ArticleSearchIndex.Hit hit : hits) {
+            try {
+                results.add(new ArticleSearchResponse(snapshot(hit.getId()), hit.getScore()));
+            } catch (IllegalArgumentException e) {
+                // 색인 반영 직전에 삭제된 게시글은 결과에서 제외
+            }
+        }
+        return results;
     }
 
+    /**
+     * 최근 많이 읽힌 게시글 순위를 반환하는 메서드
+     * 주기적으로 미리 계산된 순위(제목 포함)를 그대로 사용하므로 캐시나 DB를 읽지 않음
+     *
+     * @param window 집계 기간 (최근 1시간 또는 1일)
+     * @param size   최대 결과 수 (1 ~ ArticleTrendingTracker.MAX_TOP_K 범위로 보정됨)
+     * @return 추정 조회수가 많은 순으로 정렬된 게시글 목록
+     */
+    public List<ArticleTrendingResponse> findTrending(ArticleTrendingTracker.TrendingWindow window, int size) {
+        int limit = Math.max(1, Math.min(size, ArticleTrendingTracker.MAX_TOP_K));
+
+        List<ArticleTrendingResponse> results = new ArrayList<>(limit);
+        for (ArticleTrendingTracker.Entry entry : trendingTracker.top(window)) {
+            if (results.size() == limit) {
+                break;
+            }
+            results.add(new ArticleTrendingResponse(entry));
+        }
+        return results;
+    }
 
     /**
      * 특정 ID를 가진 게시글을 삭제하는 메서드
+     * 존재하지 않는 ID는 무시함
      *
      * @param id 삭제할 게시글의 ID
      */
+    @Transactional
     public void delete(long id) {
-        blogRepository.deleteById(id); // JPA에서 제공하는 기본 메서드를 사용하여 ID 기준으로 삭제
+        int deleted = blogRepository.deleteAllByIdIn(List.of(id)); // 엔티티를 조회하지 않고 DELETE 문 하나로 삭제
+        if (deleted > 0) {
+            afterCommit(() -> evict(id)); // 삭제된 글은 캐시와 검색 색인에서 제거
+        }
+    }
+
+    /**
+     * 여러 게시글을 하나의 DELETE 문으로 삭제하는 메서드
+     * 같은 트랜잭션에서 실제로 있는 게시글만 골라 지우므로, 없는 ID나 중복된 ID로는 삭제 이벤트가 나가지 않음
+     *
+     * @param ids 삭제할 게시글 ID 목록 (없는 ID와 중복은 무시)
+     * @return 실제로 삭제된 게시글 수
+     */
+    @Transactional
+    public int deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> existing = blogRepository.lockExistingIds(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = blogRepository.deleteAllByIdIn(existing);
+        afterCommit(() -> existing.forEach(this::evict)); // 삭제된 글마다 한 번씩 캐시와 검색 색인에서 제거
+        return deleted;
     }
 
     /**
@@ -78,9 +325,153 @@ public class BlogService {
 
         // 조회된 엔티티의 제목과 내용을 변경 (JPA 변경 감지 적용)
         article.update(request.getTitle(), request.getContent());
+        render(article); // 바뀐 내용으로 HTML도 다시 만듦
+
+        // 커밋이 끝난 뒤 수정된 내용으로 캐시와 검색 색인을 갱신 (롤백되면 기존 값 유지)
+        afterCommit(() -> refresh(article, ArticleChangeFeed.Type.UPDATED));
 
         // 변경 감지(Dirty Checking)에 의해 트랜잭션 종료 시 자동으로 DB에 반영됨
         return article;
     }
 
+    /**
+     * 여러 게시글을 한 트랜잭션에서 수정하는 메서드
+     * IN 조건 한 번으로 조회하고, 변경 감지로 생성된 UPDATE는 JDBC 배치로 전송됨
+     *
+     * @param requests 게시글 ID별 수정 요청
+     * @return 수정된 게시글 수
+     * @throws IllegalArgumentException 존재하지 않는 게시글이 하나라도 있으면 예외 발생 (전체 롤백)
+     */
+    @Transactional
+    public int updateAll(Map<Long, UpdateArticleRequest> requests) {
+        List<Article> articles = blogRepository.findAllById(requests.keySet());
+        if (articles.size() != requests.size()) {
+            Set<Long> missing = new HashSet<>(requests.keySet());
+            articles.forEach(article -> missing.remove(article.getId()));
+            throw new IllegalArgumentException("not found: " + missing);
+        }
+
+        for (Article article : articles) {
+            UpdateArticleRequest request = requests.get(article.getId());
+            article.update(request.getTitle(), request.getContent());
+            render(article);
+        }
+
+        afterCommit(() -> articles.forEach(article -> refresh(article, ArticleChangeFeed.Type.UPDATED)));
+        return articles.size();
+    }
+
+    /**
+     * 렌더러 버전이 낮은 게시글을 한 배치만큼 다시 렌더링하는 메서드 (ArticleRerenderJob이 반복 호출)
+     * 배치마다 트랜잭션을 나누므로 테이블이 커도 잠금이 한 배치 크기로 유지됨
+     * 엔티티 변경 감지 대신 HTML과 렌더러 버전만 바꾸는 UPDATE를 수정일 조건과 함께 실행하므로,
+     * 조회와 커밋 사이에 사용자가 글을 수정해도 그 수정을 덮어쓰지 않고 해당 글은 건너뜀 (수정 시 이미 렌더링됨)
+     * 수정일은 그대로 두고, HTML 화면의 ETag와 본문 조각 캐시는 렌더러 버전을 포함하므로 새 HTML 기준으로 바뀜
+     * (JSON 응답과 변경 피드에는 HTML이 없으므로 이벤트를 보내지 않음)
+     *
+     * @param afterId   이전 배치의 마지막 게시글 ID (처음에는 0)
+     * @param batchSize 한 번에 다시 렌더링할 게시글 수
+     * @return 다시 렌더링을 시도한 게시글 중 마지막 ID (대상이 없으면 -1)
+     */
+    @Transactional
+    public long rerenderOutdated(long afterId, int batchSize) {
+        List<BlogRepository.OutdatedRender> targets = blogRepository.findOutdatedRenders(MarkdownRenderer.VERSION,
+                afterId, PageRequest.of(0, batchSize));
+        if (targets.isEmpty()) {
+            return -1;
+        }
+
+        List<Long> rendered = new ArrayList<>(targets.size());
+        for (BlogRepository.OutdatedRender target : targets) {
+            String html = markdownRenderer.render(target.getContent());
+            if (blogRepository.updateRendered(target.getId(), html, MarkdownRenderer.VERSION,
+                    target.getUpdatedAt()) > 0) {
+                rendered.add(target.getId());
+            }
+        }
+
+        // 캐시의 스냅샷은 이전 HTML이므로 제거 (다음 조회 때 새 HTML로 다시 읽음)
+        afterCommit(() -> rendered.forEach(articleCache::evict));
+        return targets.get(targets.size() - 1).getId();
+    }
+
+    /**
+     * 게시글 내용을 현재 렌더러로 렌더링하여 엔티티에 저장하는 메서드
+     *
+     * @param article 렌더링할 게시글
+     */
+    private void render(Article article) {
+        article.applyRendered(markdownRenderer.render(article.getContent()), MarkdownRenderer.VERSION);
+    }
+
+    /**
+     * 저장/수정된 게시글을 캐시와 검색 색인에 반영하고 변경 피드에 알리는 메서드
+     *
+     * @param article 저장/수정된 게시글
+     * @param type    변경 종류 (CREATED 또는 UPDATED)
+     */
+    private void refresh(Article article, ArticleChangeFeed.Type type) {
+        articleCache.put(ArticleSnapshot.from(article));
+        searchIndex.index(article.getId(), article.getTitle(), article.getContent());
+        trendingTracker.rename(article.getId(), article.getTitle());
+        changeFeed.publish(type, article.getId());
+    }
+
+    /**
+     * 삭제된 게시글을 캐시와 검색 색인에서 제거하고 변경 피드에 알리는 메서드
+     *
+     * @param id 삭제된 게시글 ID
+     */
+    private void evict(long id) {
+        articleCache.evict(id);
+        searchIndex.remove(id);
+        trendingTracker.remove(id);
+        viewCounter.remove(id);
+        changeFeed.publish(ArticleChangeFeed.Type.DELETED, id);
+    }
+
+    /**
+     * 캐시를 통해 게시글 스냅샷을 읽는 메서드 (읽은 횟수를 기록하지 않음)
+     *
+     * @param id 게시글 ID
+     * @return 게시글 스냅샷
+     * @throws IllegalArgumentException 해당 ID의 게시글이 존재하지 않을 경우 예외 발생
+     */
+    private ArticleSnapshot snapshot(long id) {
+        return articleCache.get(id, key -> blogRepository.findById(key)
+                .map(ArticleSnapshot::from)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + key))); // 존재하지 않으면 예외 발생
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업을 실행하는 메서드
+     * 트랜잭션 밖에서 호출되면 바로 실행함
+     * 작업(캐시/색인/변경 피드 반영)이 실패해도 예외를 던지지 않음: 이미 커밋된 저장이 호출자에게 실패로 보이면
+     * 다시 저장을 시도하여(대기열의 한 건씩 재시도, 클라이언트 재요청) 같은 글이 두 번 들어갈 수 있기 때문
+     * (캐시는 다음 수정/만료 때, 검색 색인은 다음 시작 시 다시 맞춰짐)
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runAfterCommit(action);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("after-commit hook failed, the change is committed but caches may be stale", e);
+        }
+    }
+
 }
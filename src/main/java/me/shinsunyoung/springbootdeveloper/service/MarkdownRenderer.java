@@ -0,0 +1,59 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.owasp.html.Sanitizers;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 내용(Markdown)을 화면에 그대로 넣을 수 있는 안전한 HTML로 바꾸는 렌더러
+ * - 게시글을 저장/수정할 때 한 번만 실행하고, 결과는 Article.contentHtml에 저장하여 조회 시에는 다시 렌더링하지 않음
+ * - Markdown 안의 HTML 태그는 글자 그대로 출력하고, 결과를 허용 목록 정책으로 한 번 더 정제함 (XSS 방지)
+ * - 렌더링 결과가 달라지는 변경(확장 추가, 정책 변경 등)을 하면 VERSION을 올려야 기존 글이 다시 렌더링됨 (ArticleRerenderJob)
+ */
+@Component // 스프링 빈으로 등록
+public class MarkdownRenderer {
+
+    public static final int VERSION = 1; // 렌더러 버전 (저장된 HTML의 render_version이 이보다 낮으면 다시 렌더링)
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create()); // 표 문법 지원
+
+    // Markdown이 만들 수 있는 태그만 허용 (script, style, 이벤트 속성, javascript: 링크 등은 제거됨)
+    private static final PolicyFactory POLICY = Sanitizers.BLOCKS
+            .and(Sanitizers.FORMATTING)
+            .and(Sanitizers.LINKS)
+            .and(Sanitizers.IMAGES)
+            .and(Sanitizers.TABLES)
+            .and(new HtmlPolicyBuilder()
+                    .allowElements("pre", "hr")
+                    .allowAttributes("class").matching(Pattern.compile("language-[\\w+-]+")).onElements("code")
+                    .toFactory());
+
+    // Parser와 HtmlRenderer는 불변 객체라서 여러 스레드가 공유해도 안전함
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true) // Markdown 안의 HTML은 태그로 해석하지 않음
+            .sanitizeUrls(true) // 링크/이미지 주소의 위험한 스킴 제거
+            .build();
+
+    /**
+     * Markdown을 정제된 HTML로 렌더링하는 메서드
+     *
+     * @param markdown 게시글 내용
+     * @return 정제된 HTML (내용이 null이면 null)
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        return POLICY.sanitize(renderer.render(parser.parse(markdown)));
+    }
+}
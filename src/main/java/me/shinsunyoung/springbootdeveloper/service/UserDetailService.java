@@ -3,30 +3,62 @@ package me.shinsunyoung.springbootdeveloper.service;
 import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 인증을 담당하는 서비스 클래스.
- * Spring Security의 UserDetailsService를 구현하여 사용자 정보를 로드함.
+ * Spring Security의 UserDetailsService를 구현하여 사용자 정보를 로드하고,
+ * UserDetailsPasswordService를 구현하여 로그인 시 오래된 해시를 현재 비용의 해시로 교체함.
  */
 @RequiredArgsConstructor // Lombok을 사용하여 생성자를 자동 생성 (final 필드 주입)
 @Service // Spring의 Service 계층으로 등록
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository; // User 엔티티의 DB 접근을 위한 Repository
 
+    private final UserLookupCache userLookupCache; // 사용자 조회 캐시 (없는 이메일도 잠시 기억)
+
     /**
      * 주어진 이메일을 사용하여 사용자 정보를 조회하는 메서드.
-     * Spring Security의 인증 과정에서 호출됨.
+     * Spring Security의 인증 과정에서 호출되며, 캐시에 있으면 DB를 조회하지 않음.
      *
      * @param email 사용자 이메일
-     * @return User 객체 (UserDetails를 구현한 엔티티)
+     * @return 인증에 사용할 UserDetails 객체 (호출마다 새 객체)
      * @throws IllegalArgumentException 이메일에 해당하는 사용자가 없을 경우 예외 발생
      */
     @Override
-    public User loadUserByUsername(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException(email));
+    public UserDetails loadUserByUsername(String email) {
+        // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션으로 묶지 않음
+        // (캐시 미스 시 findByEmail은 UserRepository의 읽기 전용 트랜잭션으로 실행되어 복제본으로 라우팅됨)
+        UserDetails user = userLookupCache.get(email, key -> userRepository.findByEmail(key).orElse(null));
+        if (user == null) {
+            throw new IllegalArgumentException(email);
+        }
+        return user;
+    }
+
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시를 새 해시로 교체하는 메서드.
+     * 저장된 해시의 비용이 현재 설정보다 낮을 때 DaoAuthenticationProvider가 호출함.
+     *
+     * @param user        인증된 사용자
+     * @param newPassword 현재 비용으로 새로 만든 해시
+     * @return 새 해시가 반영된 UserDetails 객체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + user.getUsername()));
+
+        entity.updatePassword(newPassword); // 더티 체킹으로 반영
+        userLookupCache.invalidateAfterCommit(entity.getEmail()); // 이전 해시 스냅샷 제거
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
     }
 }
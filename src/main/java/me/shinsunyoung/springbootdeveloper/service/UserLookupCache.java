@@ -0,0 +1,165 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 로그인 시 사용자 조회 결과를 보관하는 캐시
+ * - 존재하는 사용자: 이메일, 비밀번호 해시, 권한의 불변 스냅샷을 보관
+ * - 존재하지 않는 이메일: 짧은 시간 동안 "없음"을 기억하여 무작위 대입(credential stuffing) 요청이 매번 DB를 조회하지 않게 함
+ *
+ * 인증 후 Spring Security가 UserDetails의 비밀번호를 지우므로(eraseCredentials) 캐시에는 스냅샷만 두고
+ * 조회할 때마다 새 UserDetails 객체를 만들어 반환함
+ *
+ * DB 조회는 캐시의 잠금(compute) 밖에서 실행하여, 같은 해시 구간의 다른 이메일이나 가상 스레드가 DB 왕복을 기다리지 않게 함
+ * 대신 이메일 구간별 세대 번호를 두어 invalidate가 번호를 올리고, 조회를 시작할 때의 번호와 다르면 결과를 저장하지 않음
+ * (비밀번호 변경/가입 직전에 읽은 이전 해시나 "없음"이 변경 이후에 다시 저장되지 않음)
+ */
+@Component // 스프링 빈으로 등록
+public class UserLookupCache implements MeterBinder {
+
+    private static final int GENERATION_STRIPES = 1024; // 세대 번호 구간 수 (2의 거듭제곱)
+
+    private final Cache<String, Snapshot> users; // 이메일 -> 사용자 스냅샷 (비활성화된 경우 null)
+    private final Cache<String, Boolean> unknownEmails; // 존재하지 않는 이메일 (비활성화된 경우 null)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES); // 이메일 구간별 무효화 횟수
+
+    public UserLookupCache(@Value("${blog.cache.user.enabled:true}") boolean enabled,
+                           @Value("${blog.cache.user.max-size:10000}") long maxSize,
+                           @Value("${blog.cache.user.ttl:10m}") Duration ttl,
+                           @Value("${blog.cache.user.negative-max-size:100000}") long negativeMaxSize,
+                           @Value("${blog.cache.user.negative-ttl:1m}") Duration negativeTtl) {
+        this.users = enabled
+                ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build()
+                : null;
+        this.unknownEmails = enabled
+                ? Caffeine.newBuilder().maximumSize(negativeMaxSize).expireAfterWrite(negativeTtl).recordStats().build()
+                : null;
+    }
+
+    /**
+     * 이메일로 사용자를 조회하는 메서드 (캐시에 없으면 로더로 조회)
+     *
+     * @param email  사용자 이메일
+     * @param loader 캐시에 없을 때 사용자를 읽어오는 함수 (없으면 null 반환)
+     * @return 새로 만든 UserDetails 객체, 사용자가 없으면 null
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (users == null) {
+            return loader.apply(email);
+        }
+
+        Snapshot cached = users.getIfPresent(email);
+        if (cached != null) {
+            return cached.toUserDetails();
+        }
+        if (unknownEmails.getIfPresent(email) != null) {
+            return null; // 최근에 없다고 확인된 이메일은 DB를 조회하지 않음
+        }
+
+        // 캐시 잠금 밖에서 조회하고, 조회를 시작한 뒤 무효화되지 않았을 때만 저장함
+        int stripe = stripe(email);
+        long generation = generations.get(stripe);
+        UserDetails user = loader.apply(email);
+        if (user == null) {
+            unknownEmails.asMap().compute(email, (key, current) ->
+                    generations.get(stripe) == generation ? Boolean.TRUE : current);
+            return null;
+        }
+
+        Snapshot snapshot = new Snapshot(user);
+        // 저장 여부 확인과 저장을 같은 compute 안에서 하므로 invalidate(번호 증가 후 삭제)와 엇갈리지 않음
+        users.asMap().compute(email, (key, current) ->
+                generations.get(stripe) == generation ? snapshot : current);
+        return snapshot.toUserDetails();
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때(가입, 비밀번호 변경) 캐시를 지우는 메서드
+     *
+     * @param email 변경된 사용자의 이메일
+     */
+    public void invalidate(String email) {
+        if (users != null) {
+            generations.incrementAndGet(stripe(email)); // 진행 중인 조회가 이전 값을 저장하지 않도록 먼저 올림
+            users.invalidate(email);
+            unknownEmails.invalidate(email);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 캐시를 지우는 메서드 (트랜잭션 밖이면 즉시 지움)
+     * 커밋 전에 지우면 다른 요청이 이전 비밀번호를 다시 캐시에 넣을 수 있음
+     *
+     * @param email 변경된 사용자의 이메일
+     */
+    public void invalidateAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(email);
+            }
+        });
+    }
+
+    private static int stripe(String email) {
+        int hash = email.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * 사용자/미존재 이메일 캐시 통계를 cache.* 지표로 등록하는 메서드
+     *
+     * @param registry 지표 저장소
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (users != null) {
+            CaffeineCacheMetrics.monitor(registry, users, "user");
+            CaffeineCacheMetrics.monitor(registry, unknownEmails, "user-unknown");
+        }
+    }
+
+    /**
+     * 인증에 필요한 사용자 정보의 불변 스냅샷
+     */
+    private static final class Snapshot {
+
+        private final String username; // 이메일
+        private final String password; // 비밀번호 해시
+        private final List<GrantedAuthority> authorities; // 권한 목록
+
+        Snapshot(UserDetails user) {
+            this.username = user.getUsername();
+            this.password = user.getPassword();
+            this.authorities = List.copyOf(user.getAuthorities());
+        }
+
+        UserDetails toUserDetails() {
+            return User.withUsername(username)
+                    .password(password)
+                    .authorities(authorities)
+                    .build();
+        }
+    }
+}
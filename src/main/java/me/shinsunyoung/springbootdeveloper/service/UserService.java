@@ -4,8 +4,9 @@ import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import me.shinsunyoung.springbootdeveloper.dto.AddUserRequest;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스.
@@ -17,7 +18,9 @@ public class UserService {
 
     private final UserRepository userRepository; // 사용자 정보를 저장 및 조회하는 리포지토리
 
-    private final BCryptPasswordEncoder bCryptPasswordEncoder; // 비밀번호 암호화를 위한 인코더
+    private final PasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 인코더 (전용 스레드 풀에서 실행)
+
+    private final UserLookupCache userLookupCache; // 로그인 사용자 조회 캐시
 
     /**
      * 사용자를 데이터베이스에 저장하는 메서드 (회원 가입)
@@ -26,9 +29,28 @@ public class UserService {
      * @return 생성된 사용자 ID
      */
     public Long save(AddUserRequest dto) {
-        return userRepository.save(User.builder()
+        Long id = userRepository.save(User.builder()
                 .email(dto.getEmail()) // 이메일 설정
-                .password(bCryptPasswordEncoder.encode(dto.getPassword())) // 비밀번호를 암호화하여 저장
-                .build()).getId(); // 저장된 사용자 ID 반환
+                .password(passwordEncoder.encode(dto.getPassword())) // 비밀번호를 암호화하여 저장
+                .build()).getId();
+
+        userLookupCache.invalidate(dto.getEmail()); // "없는 이메일"로 기억된 항목 제거
+        return id; // 저장된 사용자 ID 반환
+    }
+
+    /**
+     * 사용자의 비밀번호를 변경하는 메서드
+     * 커밋 이후 로그인 캐시를 지워 이전 비밀번호로 인증되지 않게 함
+     *
+     * @param email       사용자 이메일
+     * @param rawPassword 새 비밀번호 (평문)
+     */
+    @Transactional
+    public void changePassword(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + email));
+
+        user.updatePassword(passwordEncoder.encode(rawPassword)); // 더티 체킹으로 반영
+        userLookupCache.invalidateAfterCommit(email);
     }
 }
@@ -1,3 +0,0 @@
-INSERT INTO article (title, content, created_at, updated_at) VALUES('제목 1', '내용 1', NOW(), NOW())
-INSERT INTO article (title, content, created_at, updated_at) VALUES('제목 2', '내용 2', NOW(), NOW())
-INSERT INTO article (title, content, created_at, updated_at) VALUES('제목 3', '내용 3', NOW(), NOW())
\ No newline at end of file
@@ -5,6 +5,20 @@ const modifyButton = document.getElementById('modify-btn');
 // "create-btn" ID를 가진 요소(생성 버튼)를 가져옴
 const createButton = document.getElementById("create-btn");
 
+// "view-count" ID를 가진 요소(조회수 표시 영역)를 가져옴
+const viewCount = document.getElementById('view-count');
+
+// 조회수 표시 영역이 존재하는 경우 현재 조회수를 조회하여 표시
+if (viewCount) {
+    let id = document.getElementById('article-id').value;
+
+    fetch(`/api/articles/${id}/views`)
+        .then(response => response.json())
+        .then(body => {
+            viewCount.textContent = body.viewCount;
+        });
+}
+
 // 삭제 버튼이 존재하는 경우에만 이벤트 리스너를 추가
 if (deleteButton) {
     deleteButton.addEventListener('click', event => {
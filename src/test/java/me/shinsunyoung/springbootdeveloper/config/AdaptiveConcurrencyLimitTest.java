@@ -0,0 +1,118 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveConcurrencyLimit 테스트 클래스
+ * 시계를 직접 움직여 한도의 감소/증가와 상한/하한을 검증하는 단위 테스트 수행
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1); // 평소 지연
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100); // 과부하 시 지연
+
+    private final AtomicLong clock = new AtomicLong(); // 테스트용 시계 (ns)
+
+    private AdaptiveConcurrencyLimit limit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, 2.0, 0.5, clock::get);
+    }
+
+    /**
+     * 요청 하나를 받아 주어진 지연으로 끝내는 메서드
+     */
+    private static void complete(AdaptiveConcurrencyLimit limit, long rttNanos, boolean failed) {
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(rttNanos, failed);
+    }
+
+    @DisplayName("release: 최근 지연이 평소 지연의 tolerance배를 넘으면 한도를 줄이고, 한 번의 지연 안에서는 한 번만 줄인다")
+    @Test
+    public void backoffOnLatency() {
+        // given
+        AdaptiveConcurrencyLimit limit = limit(20, 4, 100);
+        for (int i = 0; i < 20; i++) {
+            complete(limit, FAST, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(20);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        complete(limit, SLOW, false);
+        complete(limit, SLOW, false); // 바로 이어서 끝난 요청은 한도를 다시 줄이지 않음
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(10);
+
+        // when - 최근 지연보다 긴 시간이 지난 뒤에는 다시 줄이되 하한 아래로는 내려가지 않음
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        complete(limit, SLOW, false);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        complete(limit, SLOW, false);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @DisplayName("release: 과부하 신호로 끝난 요청은 지연과 관계없이 한도를 줄인다")
+    @Test
+    public void backoffOnFailure() {
+        // given
+        AdaptiveConcurrencyLimit limit = limit(20, 4, 100);
+        complete(limit, FAST, false);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        complete(limit, FAST, true);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @DisplayName("release: 한도의 절반 이상을 쓰고 있을 때만 한도를 늘리고 상한을 넘지 않는다")
+    @Test
+    public void growOnlyWhenUtilised() {
+        // given
+        AdaptiveConcurrencyLimit idle = limit(10, 4, 12);
+        AdaptiveConcurrencyLimit busy = limit(10, 4, 12);
+
+        // when - idle은 한 번에 하나씩만 처리
+        for (int i = 0; i < 100; i++) {
+            complete(idle, FAST, false);
+        }
+        // busy는 한도의 절반(5개)을 계속 붙잡고 있는 상태에서 처리
+        for (int i = 0; i < 5; i++) {
+            assertThat(busy.tryAcquire()).isTrue();
+        }
+        for (int i = 0; i < 100; i++) {
+            complete(busy, FAST, false);
+        }
+
+        // then
+        assertThat(idle.getLimit()).isEqualTo(10);
+        assertThat(busy.getLimit()).isEqualTo(12);
+    }
+
+    @DisplayName("tryAcquire: 한도만큼 처리 중이면 기다리지 않고 거절하고 거절 수를 센다")
+    @Test
+    public void rejectOverLimit() {
+        // given
+        AdaptiveConcurrencyLimit limit = limit(4, 4, 100);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        // when
+        boolean acquired = limit.tryAcquire();
+
+        // then
+        assertThat(acquired).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(4);
+        assertThat(limit.getRejected()).isEqualTo(1);
+    }
+}
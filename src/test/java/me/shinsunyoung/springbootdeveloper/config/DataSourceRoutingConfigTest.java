@@ -0,0 +1,136 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DataSourceRoutingConfig 테스트 클래스
+ * replica 프로필(주 DB/복제본 H2 두 개)에서 트랜잭션 종류와 read-your-writes 쿠키에 따라
+ * 어느 DB에서 SQL이 실행되는지 검증하는 통합 테스트 수행
+ * (테스트용 엔드포인트가 트랜잭션 안에서 H2의 DATABASE()로 실제 접속한 DB 이름을 돌려줌)
+ */
+@SpringBootTest // 스프링 부트 애플리케이션 전체를 로드하여 테스트 실행
+@ActiveProfiles("replica") // 라우팅 DataSource 활성화
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private WebApplicationContext context; // 웹 애플리케이션 컨텍스트
+
+    @Autowired
+    ObjectMapper objectMapper; // 요청 본문 직렬화
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetUp() {
+        FilterRegistrationBean<?> readYourWrites = context.getBean("readYourWritesFilter", FilterRegistrationBean.class);
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(readYourWrites.getFilter()) // MockMvc는 서블릿 필터를 자동으로 등록하지 않음
+                .build();
+    }
+
+    @DisplayName("dataSource: 읽기 전용 트랜잭션은 복제본에서 실행된다")
+    @Test
+    public void readOnlyOnReplica() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/test/database"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentAsString()).isEqualToIgnoringCase("replica");
+        assertThat(result.getResponse().getCookie(ReadYourWrites.COOKIE_NAME)).isNull();
+    }
+
+    @DisplayName("dataSource: 쓰기 트랜잭션은 주 DB에서 실행되고 read-your-writes 쿠키를 붙인다")
+    @Test
+    public void writeOnPrimary() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(post("/test/database"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWrites.COOKIE_NAME))
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentAsString()).isEqualToIgnoringCase("primary");
+
+        // 게시글 저장 API도 같은 쿠키를 붙임
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWrites.COOKIE_NAME));
+    }
+
+    @DisplayName("dataSource: 쓰기 후 받은 쿠키를 보내면 다음 읽기도 주 DB에서 실행되고, 만료된 쿠키는 무시된다")
+    @Test
+    public void cookiePinsReadToPrimary() throws Exception {
+        // given
+        Cookie pinned = mockMvc.perform(post("/test/database"))
+                .andReturn().getResponse().getCookie(ReadYourWrites.COOKIE_NAME);
+        Cookie expired = new Cookie(ReadYourWrites.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1));
+
+        // when
+        String withCookie = mockMvc.perform(get("/test/database").cookie(pinned))
+                .andReturn().getResponse().getContentAsString();
+        String withExpiredCookie = mockMvc.perform(get("/test/database").cookie(expired))
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(pinned).isNotNull();
+        assertThat(withCookie).isEqualToIgnoringCase("primary");
+        assertThat(withExpiredCookie).isEqualToIgnoringCase("replica");
+    }
+
+    /**
+     * 트랜잭션 안에서 실제로 접속한 H2 DB 이름을 돌려주는 테스트용 엔드포인트
+     * (컴포넌트 스캔에 걸려 다른 테스트에 등록되지 않도록 @Controller 대신 RouterFunction 빈으로 등록)
+     */
+    @TestConfiguration
+    static class DatabaseNameConfig {
+
+        private static final String QUERY = "SELECT DATABASE()";
+
+        @Bean
+        RouterFunction<ServerResponse> databaseNameRoutes(JdbcTemplate jdbcTemplate,
+                                                          PlatformTransactionManager transactionManager) {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+            return RouterFunctions.route()
+                    .GET("/test/database", request -> ServerResponse.ok()
+                            .body(readOnly.execute(status -> jdbcTemplate.queryForObject(QUERY, String.class))))
+                    .POST("/test/database", request -> ServerResponse.ok()
+                            .body(readWrite.execute(status -> jdbcTemplate.queryForObject(QUERY, String.class))))
+                    .build();
+        }
+    }
+}
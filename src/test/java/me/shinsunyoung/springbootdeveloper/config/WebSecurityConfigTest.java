@@ -0,0 +1,189 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+import me.shinsunyoung.springbootdeveloper.dto.AddUserRequest;
+import me.shinsunyoung.springbootdeveloper.dto.TokenRequest;
+import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import me.shinsunyoung.springbootdeveloper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * WebSecurityConfig 테스트 클래스
+ * 해시 스레드 풀이 가득 찼을 때의 로그인/토큰 발급 응답과 로그인 시 해시 비용 갱신을 검증하는 통합 테스트 수행
+ * (해시 스레드 1개, 대기열 1개로 줄여 두 요청만으로 가득 차게 함)
+ */
+@SpringBootTest(properties = {
+        "blog.security.password.threads=1",
+        "blog.security.password.queue-capacity=1",
+        "blog.security.password.retry-after-seconds=3"
+})
+class WebSecurityConfigTest {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private WebApplicationContext context; // 웹 애플리케이션 컨텍스트
+
+    @Autowired
+    ObjectMapper objectMapper; // 요청 본문 직렬화
+
+    @Autowired
+    BoundedPasswordEncoder passwordEncoder; // 가득 채울 해시 스레드 풀
+
+    @Autowired
+    MeterRegistry meterRegistry; // 해시 대기열 길이 확인 (executor.queued)
+
+    @Autowired
+    UserService userService; // 테스트 사용자 생성
+
+    @Autowired
+    UserRepository userRepository; // 저장된 해시 확인
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity()) // 로그인 처리와 실패 처리기를 포함한 보안 필터 체인 적용
+                .build();
+    }
+
+    @DisplayName("login/issueToken: 해시 스레드와 대기열이 모두 차 있으면 기다리지 않고 503과 Retry-After로 응답한다")
+    @Test
+    public void saturatedEncoder() throws Exception {
+        // given
+        String email = createUser();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        Thread hashing = new Thread(() -> passwordEncoder.matches(blockingPassword(running, release), hash));
+        Thread queued = new Thread(() -> passwordEncoder.matches(PASSWORD, hash));
+
+        try {
+            hashing.start(); // 스레드 하나를 붙잡음
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            queued.start(); // 대기열 한 칸을 채움
+            awaitQueued(1);
+
+            TokenRequest token = new TokenRequest();
+            token.setEmail(email);
+            token.setPassword(PASSWORD);
+
+            // when & then
+            mockMvc.perform(formLogin("/login").user(email).password(PASSWORD))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+            mockMvc.perform(post("/api/token")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsString(token)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+        } finally {
+            release.countDown();
+            hashing.join(5_000);
+            queued.join(5_000);
+        }
+
+        // 풀이 비면 다시 로그인됨
+        mockMvc.perform(formLogin("/login").user(email).password(PASSWORD))
+                .andExpect(redirectedUrl("/articles"));
+    }
+
+    @DisplayName("login: 저장된 해시의 비용이 현재 설정보다 낮으면 로그인할 때 현재 비용으로 다시 해시해 저장한다")
+    @Test
+    public void rehashOnLogin() throws Exception {
+        // given (예전 비용 4로 저장된 사용자)
+        String email = "rehash-" + System.nanoTime() + "@example.com";
+        userRepository.save(User.builder()
+                .email(email)
+                .password(new BCryptPasswordEncoder(4).encode(PASSWORD))
+                .build());
+
+        // when
+        mockMvc.perform(formLogin("/login").user(email).password(PASSWORD))
+                .andExpect(redirectedUrl("/articles"));
+
+        // then
+        String stored = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(passwordEncoder.upgradeEncoding(stored)).isFalse();
+        assertThat(passwordEncoder.matches(PASSWORD, stored)).isTrue();
+
+        // 새 해시로도 다시 로그인됨
+        mockMvc.perform(formLogin("/login").user(email).password(PASSWORD))
+                .andExpect(redirectedUrl("/articles"));
+    }
+
+    private String createUser() {
+        String email = "busy-" + System.nanoTime() + "@example.com";
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(email);
+        user.setPassword(PASSWORD);
+        userService.save(user);
+        return email;
+    }
+
+    /**
+     * 해시 스레드가 평문을 읽는 순간(toString) release될 때까지 멈추는 비밀번호
+     */
+    private static CharSequence blockingPassword(CountDownLatch running, CountDownLatch release) {
+        return new CharSequence() {
+            @Override
+            public int length() {
+                return PASSWORD.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return PASSWORD.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return PASSWORD.subSequence(start, end);
+            }
+
+            @Override
+            public String toString() {
+                running.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return PASSWORD;
+            }
+        };
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
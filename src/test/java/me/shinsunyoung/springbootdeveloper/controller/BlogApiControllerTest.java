@@ -1,28 +1,55 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.shinsunyoung.springbootdeveloper.config.AccessTokenCodec;
+import me.shinsunyoung.springbootdeveloper.config.AssetManifest;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
 import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
+import me.shinsunyoung.springbootdeveloper.dto.AddUserRequest;
+import me.shinsunyoung.springbootdeveloper.dto.TokenRequest;
 import me.shinsunyoung.springbootdeveloper.dto.UpdateArticleRequest;
 import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
+import me.shinsunyoung.springbootdeveloper.service.ArticleImporter;
+import me.shinsunyoung.springbootdeveloper.service.ArticleTrendingTracker;
+import me.shinsunyoung.springbootdeveloper.service.ArticleViewCounter;
+import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import me.shinsunyoung.springbootdeveloper.service.MarkdownRenderer;
+import me.shinsunyoung.springbootdeveloper.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -45,6 +72,33 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository; // 테스트에서 사용할 BlogRepository
 
+    @Autowired
+    ArticleViewCounter viewCounter; // 조회수 반영 테스트
+
+    @Autowired
+    ArticleTrendingTracker trendingTracker; // 인기 게시글 순위 계산
+
+    @Autowired
+    UserService userService; // 토큰 발급 테스트용 사용자 생성
+
+    @Autowired
+    AccessTokenCodec accessTokenCodec; // 발급된 토큰 검증
+
+    @Autowired
+    ArticleImporter articleImporter; // 대량 가져오기 테스트
+
+    @Autowired
+    BlogService blogService; // 재렌더링 테스트
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider; // 정적 리소스의 해시 URL 계산
+
+    @Autowired
+    AssetManifest assetManifest; // 정적 리소스 버전
+
+    @Autowired
+    MeterRegistry meterRegistry; // 요청별 SQL 수 지표 확인
+
     /**
      * 각 테스트 실행 전에 실행되는 메서드
      * - MockMvc 설정 초기화
@@ -95,6 +149,113 @@ class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    @DisplayName("addArticle: 255자보다 긴 본문도 저장된다")
+    @Test
+    public void addLongArticle() throws Exception {
+        // given
+        final String content = "스프링 부트로 블로그를 만들어 봅시다. ".repeat(100);
+        final String requestBody = objectMapper.writeValueAsString(new AddArticleRequest("title", content));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/articles")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isCreated());
+        assertThat(blogRepository.findAll().get(0).getContent()).isEqualTo(content);
+    }
+
+    @DisplayName("addArticleRendersMarkdown: 글을 저장할 때 Markdown을 정제된 HTML로 한 번 렌더링해 둔다")
+    @Test
+    public void addArticleRendersMarkdown() throws Exception {
+        // given
+        final String url = "/api/articles";
+        final String content = "**굵게** [링크](javascript:alert(1)) <script>alert(1)</script>";
+        final String requestBody = objectMapper.writeValueAsString(new AddArticleRequest("title", content));
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isCreated());
+
+        Article article = blogRepository.findAll().get(0);
+        assertThat(article.getContent()).isEqualTo(content); // 원문은 그대로 보관
+        assertThat(article.getContentHtml()).contains("<strong>굵게</strong>");
+        assertThat(article.getContentHtml()).doesNotContain("<script", "javascript:");
+        assertThat(article.getRenderVersion()).isEqualTo(MarkdownRenderer.VERSION);
+    }
+
+    @DisplayName("rerenderOutdated: 재렌더링은 HTML만 바꾸고, 조회 이후 수정된 글은 덮어쓰지 않는다")
+    @Test
+    public void rerenderOutdated() throws Exception {
+        // given (렌더링되지 않은 글 두 개, 렌더러 버전 0)
+        Long untouchedId = blogRepository.save(new Article("title 1", "**content 1**")).getId();
+        Long editedId = blogRepository.save(new Article("title 2", "**content 2**")).getId();
+        LocalDateTime untouchedUpdatedAt = blogRepository.findById(untouchedId).get().getUpdatedAt();
+        LocalDateTime staleUpdatedAt = blogRepository.findById(editedId).get().getUpdatedAt();
+
+        // 재렌더링 작업이 글을 읽은 뒤 사용자가 글을 수정한 상황
+        blogService.update(editedId, new UpdateArticleRequest("new title", "new content"));
+
+        // when
+        int overwritten = blogRepository.updateRendered(editedId, "<p>old</p>", MarkdownRenderer.VERSION,
+                staleUpdatedAt);
+        int staleUntouched = blogRepository.updateRendered(untouchedId, "<p>old</p>", MarkdownRenderer.VERSION,
+                untouchedUpdatedAt.minusSeconds(1));
+        blogService.rerenderOutdated(0, 100);
+
+        // then
+        assertThat(overwritten).isZero(); // 수정된 글은 갱신하지 않음
+        assertThat(staleUntouched).isZero(); // 조회한 수정일과 다르면 갱신하지 않음
+
+        Article rendered = blogRepository.findById(untouchedId).get();
+        assertThat(rendered.getContentHtml()).contains("<strong>content 1</strong>");
+        assertThat(rendered.getRenderVersion()).isEqualTo(MarkdownRenderer.VERSION);
+        assertThat(rendered.getTitle()).isEqualTo("title 1");
+        assertThat(rendered.getUpdatedAt()).isEqualTo(untouchedUpdatedAt); // 수정일은 그대로
+
+        Article current = blogRepository.findById(editedId).get();
+        assertThat(current.getTitle()).isEqualTo("new title");
+        assertThat(current.getContent()).isEqualTo("new content");
+        assertThat(current.getContentHtml()).contains("new content").doesNotContain("old");
+    }
+
+    @DisplayName("addArticleAsync: Prefer: respond-async 요청은 202로 접수되고 대기열에서 저장된다")
+    @Test
+    public void addArticleAsync() throws Exception {
+        // given
+        final String url = "/api/articles";
+        final String requestBody = objectMapper.writeValueAsString(new AddArticleRequest("title", "content"));
+
+        // when
+        MvcResult accepted = mockMvc.perform(post(url)
+                        .header("Prefer", BlogApiController.PREFER_ASYNC)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").exists())
+                .andReturn();
+        String statusUrl = accepted.getResponse().getHeader("Location");
+
+        // then (묶음 저장이 끝날 때까지 상태를 조회)
+        assertThat(statusUrl).startsWith("/api/articles/ingest/");
+        String state = null;
+        for (int i = 0; i < 100 && !"SAVED".equals(state); i++) {
+            Thread.sleep(20);
+            MvcResult status = mockMvc.perform(get(statusUrl)).andExpect(status().isOk()).andReturn();
+            state = objectMapper.readTree(status.getResponse().getContentAsString()).get("state").asText();
+        }
+        assertThat(state).isEqualTo("SAVED");
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles).hasSize(1);
+        assertThat(articles.get(0).getTitle()).isEqualTo("title");
+    }
+
     /**
      * 블로그 글 목록 조회 API 테스트
      * - 저장된 블로그 글이 정상적으로 조회되는지 검증
@@ -123,11 +284,88 @@ class BlogApiControllerTest {
         // then (결과 검증)
         resultActions
                 .andExpect(status().isOk()) // HTTP 응답 상태 코드가 200 OK인지 검증
-                .andExpect(jsonPath("$[0].content").value(content)) // 응답 JSON의 첫 번째 객체의 content 값 검증
+                .andExpect(jsonPath("$[0].excerpt").value(content)) // 응답 JSON의 첫 번째 객체의 요약(excerpt) 값 검증 (짧은 내용은 그대로)
                 .andExpect(jsonPath("$[0].title").value(title)); // 응답 JSON의 첫 번째 객체의 title 값 검증
     }
 
 
+    /**
+     * 블로그 글 목록 커서 페이지네이션 테스트
+     * - X-Next-Cursor 헤더로 다음 페이지를 이어서 조회할 수 있는지 검증
+     */
+    @DisplayName("findAllArticles: 커서로 다음 페이지 조회에 성공")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+
+        // given (테스트 데이터 준비)
+        final String url = "/api/articles";
+        for (int i = 1; i <= 3; i++) {
+            blogRepository.save(Article.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .build());
+        }
+
+        // when (첫 페이지 요청)
+        MvcResult first = mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("title 3")) // 최신 글부터 조회
+                .andReturn();
+
+        String cursor = first.getResponse().getHeader(BlogApiController.NEXT_CURSOR_HEADER);
+        assertThat(cursor).isNotNull();
+
+        // then (커서로 다음 페이지 요청 - 마지막 페이지이므로 커서 헤더 없음)
+        mockMvc.perform(get(url).param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("title 1"))
+                .andExpect(header().doesNotExist(BlogApiController.NEXT_CURSOR_HEADER));
+    }
+
+    /**
+     * 잘못된 커서 테스트
+     * - 해석할 수 없는 커서를 보내면 목록 API와 목록 화면 모두 500이 아닌 400을 반환하는지 검증
+     */
+    @DisplayName("findAllArticles/getArticles: 잘못된 커서는 400 반환")
+    @Test
+    public void invalidCursor() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/articles").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/articles").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    /**
+     * 블로그 글 내보내기 API 테스트
+     * - 저장된 게시글이 한 줄에 하나씩 NDJSON으로 출력되는지 검증
+     */
+    @DisplayName("exportArticles: 블로그 글 NDJSON 내보내기에 성공")
+    @Test
+    public void exportArticles() throws Exception {
+
+        // given (테스트 데이터 준비)
+        final String url = "/api/articles/export";
+        blogRepository.save(Article.builder().title("title 1").content("content 1").build());
+        blogRepository.save(Article.builder().title("title 2").content("content 2").build());
+
+        // when (API 요청 실행)
+        MvcResult result = mockMvc.perform(get(url).param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then (결과 검증)
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("title 1");
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("content 2");
+    }
+
+
     /**
      * 특정 ID를 가진 블로그 게시글 조회 API 테스트
      * - 저장된 블로그 글이 ID 기반으로 정상적으로 조회되는지 검증
@@ -239,5 +477,577 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
     }
 
+    /**
+     * 게시글 캐시 무효화 테스트
+     * - 조회로 캐시에 적재된 게시글을 수정한 뒤 다시 조회하면 수정된 내용이 반환되는지 검증
+     */
+    @DisplayName("findArticle: 수정 후 조회하면 캐시가 아닌 최신 글을 반환")
+    @Test
+    public void findArticleAfterUpdate() throws Exception {
+
+        // given (게시글 저장 후 한 번 조회하여 캐시에 적재)
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build()
+        );
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.title").value("title"));
+
+        // when (게시글 수정)
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content"))))
+                .andExpect(status().isOk());
+
+        // then (수정된 내용으로 조회되는지 검증)
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"))
+                .andExpect(jsonPath("$.content").value("new content"));
+    }
+
+    /**
+     * 조건부 GET 테스트
+     * - 응답의 ETag를 If-None-Match로 다시 보내면 본문 없이 304가 반환되는지 검증
+     */
+    @DisplayName("findArticle: ETag가 같으면 304 Not Modified 반환")
+    @Test
+    public void findArticleNotModified() throws Exception {
+
+        // given (게시글 저장 후 한 번 조회하여 ETag 획득)
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build()
+        );
+        String etag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        // when & then (같은 ETag로 다시 요청하면 304)
+        mockMvc.perform(get(url, savedArticle.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * 게시글 검색 API 테스트
+     * - API로 저장한 게시글이 색인되어 한글 검색어로 조회되는지 검증
+     */
+    @DisplayName("searchArticles: 한글 검색어로 블로그 글 검색에 성공")
+    @Test
+    public void searchArticles() throws Exception {
+
+        // given (API로 게시글을 저장하여 검색 색인에 반영)
+        final String url = "/api/articles";
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new AddArticleRequest("스프링 부트 입문", "빈과 의존성 주입"))));
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new AddArticleRequest("자바 기초", "변수와 타입"))));
+
+        // when & then (띄어쓰기 없는 검색어도 2글자 단위로 매칭되는지 검증)
+        mockMvc.perform(get(url + "/search").param("q", "스프링부트"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("스프링 부트 입문"));
+    }
+
+    /**
+     * 게시글 일괄 추가/삭제 API 테스트
+     * - 배열로 추가한 게시글이 모두 저장되고, ID 목록으로 한 번에 삭제되는지 검증
+     */
+    @DisplayName("addArticles/deleteArticles: 블로그 글 일괄 추가와 삭제에 성공")
+    @Test
+    public void addAndDeleteArticles() throws Exception {
+
+        // given (테스트 데이터 준비)
+        final String url = "/api/articles/batch";
+        List<AddArticleRequest> requests = List.of(
+                new AddArticleRequest("title 1", "content 1"),
+                new AddArticleRequest("title 2", "content 2"),
+                new AddArticleRequest("title 3", "content 3"));
+
+        // when (일괄 추가)
+        String ids = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        // then (모두 저장되었는지 확인)
+        assertThat(blogRepository.findAll()).hasSize(3);
+
+        // when (반환된 ID 목록으로 일괄 삭제)
+        mockMvc.perform(delete(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(ids))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(3));
+
+        // then (모두 삭제되었는지 확인)
+        assertThat(blogRepository.findAll()).isEmpty();
+    }
+
+    /**
+     * 게시글 일괄 삭제 API 테스트
+     * - 없는 ID와 중복된 ID는 무시하고, 실제로 삭제된 게시글마다 삭제 이벤트가 한 번씩만 나가는지 검증
+     */
+    @DisplayName("deleteArticles: 없는 ID와 중복된 ID로는 삭제 이벤트를 보내지 않는다")
+    @Test
+    public void deleteArticlesPublishesOnce() throws Exception {
+
+        // given (게시글 하나 저장)
+        final String url = "/api/articles/batch";
+        long id = blogRepository.save(Article.builder().title("title").content("content").build()).getId();
+        long missing = id + 1_000_000;
+
+        // when (같은 ID 두 번과 없는 ID로 일괄 삭제)
+        mockMvc.perform(delete(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(List.of(id, id, missing))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(1));
+
+        // then (보관 중인 이벤트를 처음부터 받아 삭제 이벤트 수 확인)
+        MvcResult stream = mockMvc.perform(get("/api/articles/changes").header("Last-Event-ID", "old-0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String deleted = "\"articleId\":" + id + ","; // 저장소로 직접 저장했으므로 이 글의 이벤트는 삭제뿐
+        String body = "";
+        for (int i = 0; i < 100 && !body.contains(deleted); i++) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertThat(body.split(deleted, -1)).hasSize(2); // 정확히 한 번
+        assertThat(body).doesNotContain("\"articleId\":" + missing + ",");
+    }
+
+    /**
+     * 액세스 토큰 발급 API 테스트
+     * - 올바른 이메일/비밀번호로 발급한 토큰이 DB 조회 없이 같은 사용자로 검증되는지 확인
+     * - 비밀번호가 틀리면 401을 반환하는지 확인
+     */
+    @DisplayName("issueToken: 액세스 토큰 발급과 검증에 성공")
+    @Test
+    public void issueToken() throws Exception {
+
+        // given (테스트 사용자 생성)
+        final String url = "/api/token";
+        final String email = "token-" + System.nanoTime() + "@example.com";
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(email);
+        user.setPassword("password");
+        userService.save(user);
+
+        TokenRequest request = new TokenRequest();
+        request.setEmail(email);
+        request.setPassword("password");
+
+        // when (토큰 발급)
+        MvcResult result = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn();
+
+        // then (발급된 토큰이 같은 사용자로 검증됨)
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+        Authentication authentication = accessTokenCodec.verify(token);
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo(email);
+
+        // 본문이 변조된 토큰은 서명이 맞지 않아 거부됨
+        String tampered = (token.charAt(0) == 'A' ? "B" : "A") + token.substring(1);
+        assertThat(accessTokenCodec.verify(tampered)).isNull();
+
+        // 비밀번호가 틀리면 401
+        request.setPassword("wrong");
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * 비밀번호 변경 테스트
+     * - 비밀번호를 바꾸면 로그인 캐시가 지워져 이전 비밀번호로는 인증되지 않고 새 비밀번호로 인증되는지 확인
+     */
+    @DisplayName("changePassword: 비밀번호를 바꾸면 캐시된 사용자 정보가 지워져 이전 비밀번호로는 토큰을 받을 수 없다")
+    @Test
+    public void changePasswordInvalidatesLogin() throws Exception {
+        // given (로그인 캐시에 사용자 정보가 올라간 상태)
+        final String url = "/api/token";
+        final String email = "password-" + System.nanoTime() + "@example.com";
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(email);
+        user.setPassword("old-password");
+        userService.save(user);
+
+        TokenRequest request = new TokenRequest();
+        request.setEmail(email);
+        request.setPassword("old-password");
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // when
+        userService.changePassword(email, "new-password");
+
+        // then
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+
+        request.setPassword("new-password");
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 게시글 조회수 API 테스트
+     * - 반영 전에는 메모리의 증가분이, 반영 후에는 DB 값이 조회수로 보이는지 확인
+     */
+    @DisplayName("findViewCount: 반영 전후 모두 같은 조회수 조회에 성공")
+    @Test
+    public void findViewCount() throws Exception {
+
+        // given (게시글 저장 후 세 번 조회)
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        final String url = "/api/articles/" + article.getId() + "/views";
+        for (int i = 0; i < 3; i++) {
+            viewCounter.increment(article.getId());
+        }
+
+        // then (아직 DB에 반영되지 않은 증가분 포함)
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(3));
+
+        // when (DB에 반영)
+        viewCounter.flush();
+
+        // then (반영 후에도 같은 값이며 DB에 저장됨)
+        mockMvc.perform(get(url))
+                .andExpect(jsonPath("$.viewCount").value(3));
+        assertThat(blogRepository.findViewCountById(article.getId())).contains(3L);
+    }
+
+    @DisplayName("findViewCount: 반영과 동시에 들어온 조회수도 잃지 않는다")
+    @Test
+    public void flushWhileCounting() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        long id = article.getId();
+        int threads = 4;
+        int viewsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when (조회수가 0이 되는 순간이 생기도록 반영을 계속 돌리면서 조회수 증가)
+        List<Future<?>> counting = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            counting.add(executor.submit(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    viewCounter.increment(id);
+                    if (i % 100 == 0) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        while (!counting.stream().allMatch(Future::isDone)) {
+            viewCounter.flush();
+        }
+        executor.shutdown();
+        for (Future<?> future : counting) {
+            future.get();
+        }
+        viewCounter.flush();
+
+        // then
+        assertThat(blogRepository.findViewCountById(id)).contains((long) threads * viewsPerThread);
+        assertThat(viewCounter.pending(id)).isZero();
+    }
+
+    /**
+     * 인기 게시글 API 테스트
+     * - 더 많이 읽힌 게시글이 순위 맨 앞에 오는지 확인
+     */
+    @DisplayName("findTrendingArticles: 많이 읽힌 순서로 인기 게시글 조회에 성공")
+    @Test
+    public void findTrendingArticles() throws Exception {
+
+        // given (게시글 두 개를 서로 다른 횟수만큼 조회)
+        Article hot = blogRepository.save(Article.builder().title("hot").content("content").build());
+        Article cold = blogRepository.save(Article.builder().title("cold").content("content").build());
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/articles/{id}", hot.getId())).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/articles/{id}", cold.getId())).andExpect(status().isOk());
+
+        // when (순위 스냅샷 갱신 후 조회)
+        trendingTracker.refresh();
+        ResultActions result = mockMvc.perform(get("/api/articles/trending").param("window", "hour"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(hot.getId()))
+                .andExpect(jsonPath("$[0].title").value("hot"));
+    }
 
+    @DisplayName("findTrendingArticles: 기간은 대소문자를 구분하지 않고, 지원하지 않는 기간이면 400 반환")
+    @Test
+    public void findTrendingArticlesWindow() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/articles/trending").param("window", "DAY"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles/trending").param("window", "week"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("findTrendingArticles: 순위의 제목은 수정 즉시 바뀌고, 삭제된 게시글은 다음 갱신을 기다리지 않고 빠진다")
+    @Test
+    public void findTrendingArticlesAfterUpdateAndDelete() throws Exception {
+        // given
+        Article hot = blogRepository.save(Article.builder().title("hot").content("content").build());
+        for (int i = 0; i < 50; i++) {
+            mockMvc.perform(get("/api/articles/{id}", hot.getId())).andExpect(status().isOk());
+        }
+        trendingTracker.refresh();
+
+        // when (제목 수정)
+        mockMvc.perform(put("/api/articles/{id}", hot.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("renamed", "content"))))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/api/articles/trending").param("window", "hour"))
+                .andExpect(jsonPath("$[0].id").value(hot.getId()))
+                .andExpect(jsonPath("$[0].title").value("renamed"));
+
+        // when (삭제)
+        mockMvc.perform(delete("/api/articles/{id}", hot.getId()))
+                .andExpect(status().isOk());
+        trendingTracker.refresh();
+
+        // then
+        mockMvc.perform(get("/api/articles/trending").param("window", "hour"))
+                .andExpect(jsonPath("$[?(@.id == " + hot.getId() + ")]").isEmpty());
+    }
+
+    @DisplayName("countView: 게시글 화면과 API는 304 응답도 조회수와 인기 순위에 함께 세고, 편집 화면은 세지 않는다")
+    @Test
+    public void countViewAndTrendingTogether() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().title("counted").content("content").build());
+        long id = article.getId();
+        String etag = mockMvc.perform(get("/articles/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        mockMvc.perform(get("/articles/{id}", id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/articles/{id}", id))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/new-article").param("id", Long.toString(id))) // 편집 화면
+                .andExpect(status().isOk());
+        trendingTracker.refresh();
+
+        // then (화면 200, 화면 304, API 200의 세 번)
+        assertThat(viewCounter.pending(id)).isEqualTo(3);
+        assertThat(trendingTracker.top(ArticleTrendingTracker.TrendingWindow.HOUR))
+                .filteredOn(entry -> entry.getId() == id)
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getViews()).isEqualTo(3);
+                    assertThat(entry.getTitle()).isEqualTo("counted");
+                });
+    }
+
+    @DisplayName("streamChanges: 변경 피드에 연결하면 Last-Event-ID 이후의 게시글 변경 이벤트를 받는다")
+    @Test
+    public void streamChanges() throws Exception {
+        // given (게시글 추가 -> created 이벤트 발행)
+        MvcResult created = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // when (이전 실행의 ID로 재연결 -> reset 후 보관 중인 이벤트를 처음부터 받음)
+        MvcResult stream = mockMvc.perform(get("/api/articles/changes").header("Last-Event-ID", "old-0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then (이벤트는 별도 스레드에서 전송되므로 잠시 기다림)
+        String body = "";
+        for (int i = 0; i < 100 && !body.contains("\"articleId\":" + id); i++) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:reset");
+        assertThat(body).contains("event:created");
+        assertThat(body).contains("\"articleId\":" + id);
+    }
+
+    @DisplayName("importArticles: NDJSON과 CSV(따옴표 안의 쉼표/줄바꿈 포함)에서 게시글을 가져온다")
+    @Test
+    public void importArticles() throws Exception {
+        // given
+        String ndjson = "{\"id\":1,\"title\":\"json 1\",\"content\":\"내용 1\",\"createdAt\":\"2024-01-01T10:00\"}\n"
+                + "{\"title\":\"\",\"content\":\"제목 없음\"}\n"; // 제목이 없으면 건너뜀
+        String csv = "id,title,content,created_at,updated_at\r\n"
+                + "7,csv 1,\"쉼표, \"\"따옴표\"\"\r\n줄바꿈\",2024-01-02T10:00,2024-01-03T10:00\r\n";
+
+        // when
+        ArticleImporter.Result fromJson = articleImporter.importArticles(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ArticleImporter.Format.NDJSON);
+        ArticleImporter.Result fromCsv = articleImporter.importArticles(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ArticleImporter.Format.CSV);
+
+        // then
+        assertThat(fromJson.getImported()).isEqualTo(1);
+        assertThat(fromJson.getSkipped()).isEqualTo(1);
+        assertThat(fromCsv.getImported()).isEqualTo(1);
+
+        List<Article> articles = blogRepository.findAll();
+        articles.sort(Comparator.comparing(Article::getTitle));
+        assertThat(articles).extracting(Article::getTitle).containsExactly("csv 1", "json 1");
+        assertThat(articles.get(0).getContent()).isEqualTo("쉼표, \"따옴표\"\r\n줄바꿈");
+        assertThat(articles.get(0).getUpdatedAt()).isEqualTo("2024-01-03T10:00");
+        assertThat(articles.get(1).getExcerpt()).isEqualTo("내용 1");
+        assertThat(articles.get(1).getContentHtml()).contains("내용 1"); // 가져올 때 렌더링까지 끝냄
+        assertThat(articles).allSatisfy(article ->
+                assertThat(article.getRenderVersion()).isEqualTo(MarkdownRenderer.VERSION));
+    }
+
+    @DisplayName("staticAssets: 게시글 화면은 해시가 붙은 스크립트 URL과 자산 버전이 포함된 ETag를 쓰고, 해시 URL은 immutable로 캐시된다")
+    @Test
+    public void staticAssets() throws Exception {
+        // given
+        Article article = blogRepository.save(new Article("title", "content"));
+        String hashedUrl = resourceUrlProvider.getForLookupPath("/js/article.js");
+        MockMvc pageMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new ResourceUrlEncodingFilter()) // 템플릿의 @{/js/...}를 해시 URL로 바꾸는 필터
+                .build();
+
+        // when
+        MvcResult page = pageMvc.perform(get("/articles/" + article.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult asset = mockMvc.perform(get(hashedUrl))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(hashedUrl).matches("/js/article-[0-9a-f]{32}\\.js");
+        assertThat(page.getResponse().getContentAsString()).contains("src=\"" + hashedUrl + "\"");
+        assertThat(page.getResponse().getHeader("ETag")).contains(assetManifest.getVersion());
+        assertThat(asset.getResponse().getHeader("Cache-Control")).contains("max-age=31536000", "immutable");
+    }
+
+    @DisplayName("getArticles: 목록 화면의 ETag에는 자산 버전이 포함되고, JSON 목록의 ETag에는 포함되지 않는다")
+    @Test
+    public void listEtags() throws Exception {
+        // given
+        blogRepository.save(new Article("title", "content"));
+        String listVersion = blogService.findListVersion();
+
+        // when
+        String htmlEtag = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String jsonEtag = mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        assertThat(htmlEtag).isEqualTo(ConditionalRequests.htmlListEtag(listVersion, assetManifest.getVersion(), "null|"));
+        assertThat(jsonEtag).isEqualTo(ConditionalRequests.listEtag(listVersion, "null|" + BlogService.DEFAULT_PAGE_SIZE));
+        mockMvc.perform(get("/articles").header("If-None-Match", htmlEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("requestStatistics: 요청마다 실행한 SQL 문 수를 경로 패턴별 지표로 기록한다")
+    @Test
+    public void requestStatistics() throws Exception {
+        // given
+        Article article = blogRepository.save(new Article("title", "content"));
+        FilterRegistrationBean<?> metricsFilter = context.getBean("hibernateRequestMetricsFilter", FilterRegistrationBean.class);
+        MockMvc metricsMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(metricsFilter.getFilter()) // MockMvc는 서블릿 필터를 자동으로 등록하지 않음
+                .build();
+        DistributionSummary statements = meterRegistry.summary("hibernate.request.statements", "uri", "/api/articles/{id}");
+        long countBefore = statements.count();
+        double totalBefore = statements.totalAmount();
+
+        // when (리포지토리로 바로 저장한 글이라 캐시에 없으므로 SQL이 실행됨)
+        metricsMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(metricsFilter.getOrder()).isLessThan(-100); // 스프링 시큐리티 필터보다 먼저 실행
+        assertThat(statements.count()).isEqualTo(countBefore + 1);
+        assertThat(statements.totalAmount()).isGreaterThan(totalBefore);
+    }
+
+    @DisplayName("articleFragments: 게시글을 고치거나 지우면 목록 카드와 본문 조각이 바로 바뀌고, 카드 링크에 컨텍스트 경로가 붙는다")
+    @Test
+    public void articleFragments() throws Exception {
+        // given
+        MvcResult created = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("old title", "old content"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        assertThat(page("/articles")).contains("old title");
+        assertThat(page("/articles/" + id)).contains("old content");
+
+        // when (수정)
+        mockMvc.perform(put("/api/articles/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content"))))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(page("/articles")).contains("new title").doesNotContain("old title");
+        assertThat(page("/articles/" + id)).contains("new content").doesNotContain("old content");
+
+        // when (컨텍스트 경로 아래에 배포된 경우)
+        String underContextPath = mockMvc.perform(get("/blog/articles").contextPath("/blog"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(underContextPath).contains("href=\"/blog/articles/" + id + "\"");
+        assertThat(page("/articles")).contains("href=\"/articles/" + id + "\"");
+
+        // when (삭제)
+        mockMvc.perform(delete("/api/articles/{id}", id))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(page("/articles")).doesNotContain("new title");
+    }
+
+    private String page(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
 }
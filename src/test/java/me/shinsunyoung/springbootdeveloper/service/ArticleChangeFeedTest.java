@@ -0,0 +1,91 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.shinsunyoung.springbootdeveloper.config.AccessTokenCodec;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleChangeFeed 테스트 클래스
+ * 응답을 읽지 않는 구독자가 전송 스레드를 계속 붙잡지 않고 쓰기 제한 시간 뒤에 끊기는지 검증하는 통합 테스트 수행
+ * (실제 Tomcat 소켓 쓰기가 막혀야 하므로 MockMvc 대신 임의 포트로 서버를 띄워 원시 소켓으로 구독함)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0", // 관리 포트도 임의 포트로 (실행 중인 애플리케이션과 충돌 방지)
+        "blog.change-feed.send-timeout=1s",
+        "blog.change-feed.sender-threads=1" // 막힌 구독자 하나로 전송 스레드가 모두 묶이는 상황
+})
+class ArticleChangeFeedTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    ArticleChangeFeed changeFeed; // 이벤트를 발행할 변경 피드
+
+    @Autowired
+    AccessTokenCodec accessTokenCodec; // 구독 요청에 붙일 토큰 발급
+
+    @Autowired
+    MeterRegistry meterRegistry; // 구독자 수와 끊긴 구독자 수 확인
+
+    @DisplayName("send: 응답을 읽지 않는 구독자는 쓰기 제한 시간이 지나면 끊기고 stalled로 집계된다")
+    @Test
+    public void dropClientThatNeverReads() throws Exception {
+        // given
+        String token = accessTokenCodec.issue(User.builder().email("stalled@example.com").password("password").build());
+        double stalledBefore = meterRegistry.get("article.changes.stalled").functionCounter().count();
+
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(1024); // 서버의 쓰기가 빨리 막히도록 수신 버퍼를 작게
+            socket.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /api/articles/changes HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Accept: text/event-stream\r\n"
+                    + "Authorization: Bearer " + token + "\r\n"
+                    + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            awaitSubscribers(1);
+
+            // when (소켓에서 읽지 않은 채 송신 버퍼가 찰 때까지 이벤트 발행)
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            long articleId = 0;
+            while (subscribers() > 0) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                for (int i = 0; i < 1000; i++) {
+                    changeFeed.publish(ArticleChangeFeed.Type.UPDATED, ++articleId);
+                }
+                Thread.sleep(10);
+            }
+        }
+
+        // then
+        assertThat(meterRegistry.get("article.changes.stalled").functionCounter().count())
+                .isGreaterThan(stalledBefore);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("article.changes.subscribers").gauge().value();
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscribers() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleSearchIndex 테스트 클래스
+ * 최대 게시글 수를 넘으면 오래된 게시글부터 색인에서 빠지는지 검증하는 단위 테스트 수행
+ */
+class ArticleSearchIndexTest {
+
+    private static List<Long> ids(List<ArticleSearchIndex.Hit> hits) {
+        return hits.stream().map(ArticleSearchIndex.Hit::getId).toList();
+    }
+
+    @DisplayName("index: 최대 게시글 수를 넘으면 ID가 가장 작은 게시글을 빼고, 그보다 오래된 게시글은 색인하지 않는다")
+    @Test
+    public void evictOldest() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex(2);
+        index.index(1, "spring", "boot");
+        index.index(2, "spring", "data");
+
+        // when
+        index.index(3, "spring", "security");
+        index.indexIfAbsent(1, "spring", "boot"); // 이미 빠진 오래된 게시글
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.search("spring", 10))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("boot", 10)).isEmpty();
+    }
+
+    @DisplayName("index: 가득 찬 상태에서 색인된 게시글을 수정하면 다른 게시글을 빼지 않는다")
+    @Test
+    public void reindexWhenFull() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex(2);
+        index.index(1, "spring", "boot");
+        index.index(2, "spring", "data");
+
+        // when
+        index.index(1, "spring", "batch");
+
+        // then
+        assertThat(ids(index.search("spring", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("batch", 10))).containsExactly(1L);
+        assertThat(index.search("boot", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,139 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserLookupCache 테스트 클래스
+ * 존재하지 않는 이메일 캐시와 비밀번호 변경 시 무효화를 검증하는 단위 테스트 수행
+ */
+class UserLookupCacheTest {
+
+    private static final String EMAIL = "user@email.com";
+
+    private final UserLookupCache cache = new UserLookupCache(true, 100, Duration.ofMinutes(10),
+            100, Duration.ofMinutes(1));
+
+    private static Function<String, UserDetails> user(String password) {
+        return email -> User.withUsername(email).password(password).authorities("user").build();
+    }
+
+    @DisplayName("get: 없는 이메일은 기억해 두고 다시 조회하지 않으며, 가입 후 무효화하면 다시 조회한다")
+    @Test
+    public void negativeCache() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserDetails> missing = email -> {
+            loads.incrementAndGet();
+            return null;
+        };
+
+        // when
+        UserDetails first = cache.get(EMAIL, missing);
+        UserDetails second = cache.get(EMAIL, missing);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+
+        // when (가입)
+        cache.invalidate(EMAIL);
+        UserDetails signedUp = cache.get(EMAIL, user("hash"));
+
+        // then
+        assertThat(signedUp.getPassword()).isEqualTo("hash");
+    }
+
+    @DisplayName("invalidateAfterCommit: 비밀번호를 바꾸면 캐시된 이전 해시를 더 이상 쓰지 않는다")
+    @Test
+    public void invalidateAfterPasswordChange() {
+        // given
+        cache.get(EMAIL, user("old"));
+
+        // when (트랜잭션 밖에서는 바로 지움)
+        cache.invalidateAfterCommit(EMAIL);
+        UserDetails reloaded = cache.get(EMAIL, user("new"));
+
+        // then
+        assertThat(reloaded.getPassword()).isEqualTo("new");
+        assertThat(cache.get(EMAIL, user("unused")).getPassword()).isEqualTo("new");
+    }
+
+    @DisplayName("get: 이전 해시를 읽는 중에 무효화되면 조회가 끝난 뒤 이전 해시를 캐시에 남기지 않는다")
+    @Test
+    public void invalidateDuringLoad() throws Exception {
+        // given (이전 해시를 읽고 있는 로그인 요청)
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread login = new Thread(() -> cache.get(EMAIL, email -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return user("old").apply(email);
+        }));
+        login.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when (그 사이 비밀번호 변경이 커밋되어 캐시를 지움)
+        Thread changePassword = new Thread(() -> cache.invalidate(EMAIL));
+        changePassword.start();
+        Thread.sleep(50);
+        release.countDown();
+        login.join(5_000);
+        changePassword.join(5_000);
+
+        // then
+        assertThat(cache.get(EMAIL, user("new")).getPassword()).isEqualTo("new");
+    }
+
+    @DisplayName("get: DB 조회는 캐시 잠금 밖에서 실행되어, 느린 조회 중에도 다른 이메일 조회와 무효화가 기다리지 않는다")
+    @Test
+    public void loadOutsideLock() throws Exception {
+        // given (느린 조회가 진행 중)
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> cache.get(EMAIL, email -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        slow.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when
+            long started = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                cache.get("unknown-" + i + "@email.com", email -> null);
+            }
+            cache.invalidate(EMAIL);
+
+            // then
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        } finally {
+            release.countDown();
+            slow.join(5_000);
+        }
+
+        // 무효화 이후에 끝난 조회의 "없음"은 저장되지 않음
+        assertThat(cache.get(EMAIL, user("hash")).getPassword()).isEqualTo("hash");
+    }
+}